@@ -0,0 +1,155 @@
+package com.example.demo;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+public final class SpriteAtlasPacker {
+
+	private static final int ATLAS_WIDTH = 1024;
+	private static final int PADDING = 2;
+
+	private SpriteAtlasPacker() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new IllegalArgumentException("Usage: SpriteAtlasPacker <resource root>");
+		}
+		Path root = Path.of(args[0]);
+		List<Sprite> sprites = new ArrayList<>();
+		for (String path : SpriteManifest.getPaths()) {
+			sprites.add(Sprite.read(root, path));
+		}
+		sprites.sort(Comparator.comparingInt(Sprite::height).reversed());
+		int atlasHeight = place(sprites);
+		BufferedImage atlas = new BufferedImage(ATLAS_WIDTH, atlasHeight, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = atlas.createGraphics();
+		for (Sprite sprite : sprites) {
+			graphics.drawImage(sprite.image(), sprite.x, sprite.y, null);
+		}
+		graphics.dispose();
+		write(root, atlas, sprites);
+		System.out.printf("Packed %d sprites into %dx%d atlas%n", sprites.size(), ATLAS_WIDTH, atlasHeight);
+	}
+
+	private static int place(List<Sprite> sprites) {
+		int x = PADDING;
+		int y = PADDING;
+		int shelfHeight = 0;
+		for (Sprite sprite : sprites) {
+			if (sprite.width() + 2 * PADDING > ATLAS_WIDTH) {
+				throw new IllegalArgumentException("Sprite wider than the atlas: " + sprite.path());
+			}
+			if (x + sprite.width() + PADDING > ATLAS_WIDTH) {
+				x = PADDING;
+				y += shelfHeight + PADDING;
+				shelfHeight = 0;
+			}
+			sprite.x = x;
+			sprite.y = y;
+			x += sprite.width() + PADDING;
+			shelfHeight = Math.max(shelfHeight, sprite.height());
+		}
+		return y + shelfHeight + PADDING;
+	}
+
+	private static void write(Path root, BufferedImage atlas, List<Sprite> sprites) throws IOException {
+		Path imageFile = resolve(root, SpriteAtlas.IMAGE_PATH);
+		Path indexFile = resolve(root, SpriteAtlas.INDEX_PATH);
+		Files.createDirectories(imageFile.getParent());
+		ImageIO.write(atlas, "png", imageFile.toFile());
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile)))) {
+			out.writeInt(SpriteAtlas.MAGIC);
+			out.writeByte(SpriteAtlas.VERSION);
+			out.writeShort(sprites.size());
+			for (Sprite sprite : sprites) {
+				out.writeUTF(sprite.path());
+				out.writeShort(sprite.x);
+				out.writeShort(sprite.y);
+				out.writeShort(sprite.width());
+				out.writeShort(sprite.height());
+			}
+		}
+	}
+
+	private static Path resolve(Path root, String resourcePath) {
+		return root.resolve(resourcePath.substring(1));
+	}
+
+	private static BufferedImage scale(BufferedImage source, int width, int height) {
+		BufferedImage current = source;
+		int currentWidth = source.getWidth();
+		int currentHeight = source.getHeight();
+		do {
+			currentWidth = Math.max(width, currentWidth / 2);
+			currentHeight = Math.max(height, currentHeight / 2);
+			if (currentWidth < width || currentHeight < height) {
+				currentWidth = width;
+				currentHeight = height;
+			}
+			BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D graphics = next.createGraphics();
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+			graphics.dispose();
+			current = next;
+		} while (currentWidth != width || currentHeight != height);
+		return current;
+	}
+
+	private static final class Sprite {
+
+		private final String path;
+		private final BufferedImage image;
+		private int x;
+		private int y;
+
+		private Sprite(String path, BufferedImage image) {
+			this.path = path;
+			this.image = image;
+		}
+
+		static Sprite read(Path root, String path) throws IOException {
+			BufferedImage source = ImageIO.read(resolve(root, path).toFile());
+			if (source == null) {
+				throw new IllegalArgumentException("Unreadable sprite: " + path);
+			}
+			int height = SpriteManifest.getHeight(path);
+			int width = SpriteManifest.getWidth(path);
+			if (width == 0) {
+				width = (int) Math.round((double) source.getWidth() * height / source.getHeight());
+			}
+			return new Sprite(path, scale(source, width, height));
+		}
+
+		String path() {
+			return path;
+		}
+
+		BufferedImage image() {
+			return image;
+		}
+
+		int width() {
+			return image.getWidth();
+		}
+
+		int height() {
+			return image.getHeight();
+		}
+
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.example.demo;
+
+import java.util.List;
+
+import javafx.scene.Group;
+
+public class BenchmarkLevel extends LevelParent {
+
+	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double SCREEN_WIDTH = 1300;
+	private static final int PLAYER_INITIAL_HEALTH = 5;
+	private static final double DESTROYED_FRACTION = .1;
+	private final int targetEnemies;
+	private final int targetProjectiles;
+
+	public BenchmarkLevel(int targetEnemies, int targetProjectiles) {
+		super(BACKGROUND_IMAGE_NAME, SCREEN_HEIGHT, SCREEN_WIDTH, PLAYER_INITIAL_HEALTH);
+		this.targetEnemies = targetEnemies;
+		this.targetProjectiles = targetProjectiles;
+	}
+
+	public void populate() {
+		release(getEnemyUnits());
+		release(getUserProjectiles());
+		release(getEnemyProjectiles());
+		for (int i = 0; i < targetEnemies; i++) {
+			addEnemyUnit(getPools().getEnemyPlanes().acquire(randomX(), randomY()));
+		}
+		for (int i = 0; i < targetProjectiles / 2; i++) {
+			getUserProjectiles().add(getPools().getUserProjectiles().acquire(randomX(), randomY()));
+			getEnemyProjectiles().add(getPools().getEnemyProjectiles().acquire(randomX(), randomY()));
+		}
+		cacheAllBounds();
+	}
+
+	public void destroySome() {
+		destroySome(getEnemyUnits());
+		destroySome(getUserProjectiles());
+		destroySome(getEnemyProjectiles());
+	}
+
+	public void removeSomeEnemies() {
+		destroySome(getEnemyUnits());
+		removeAllDestroyedActors();
+		cacheAllBounds();
+	}
+
+	@Override
+	protected void checkIfGameOver() {
+	}
+
+	@Override
+	protected void spawnEnemyUnits(double deltaSeconds) {
+		for (int i = getCurrentNumberOfEnemies(); i < targetEnemies; i++) {
+			addEnemyUnit(getPools().getEnemyPlanes().acquire(getScreenWidth(), randomY()));
+		}
+	}
+
+	@Override
+	protected LevelView instantiateLevelView(Group root) {
+		return new LevelView(root, PLAYER_INITIAL_HEALTH);
+	}
+
+	private void release(List<ActiveActorDestructible> actors) {
+		actors.forEach(actor -> actor.recycle());
+		actors.clear();
+	}
+
+	private void destroySome(List<ActiveActorDestructible> actors) {
+		for (ActiveActorDestructible actor : actors) {
+			if (getRandom().chance(DESTROYED_FRACTION)) {
+				actor.destroy();
+			}
+		}
+	}
+
+	private double randomX() {
+		return getRandom().nextDouble(SCREEN_WIDTH);
+	}
+
+	private double randomY() {
+		return getRandom().nextDouble(getEnemyMaximumYPosition());
+	}
+
+}
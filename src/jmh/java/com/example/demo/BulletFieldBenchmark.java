@@ -0,0 +1,95 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Run through main() to fail the build when a full boss pattern step allocates.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulletFieldBenchmark {
+
+	private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+	private static final double MAX_BYTES_PER_OP = 1;
+	private static final String IMAGE_NAME = "fireball.png";
+	private static final double SCREEN_WIDTH = 1300;
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double ORIGIN_X = 1000;
+	private static final double ORIGIN_Y = 300;
+	private static final double SECONDS_PER_TICK = 1.0 / 60;
+	private static final long SEED = 42;
+
+	@Param({ "4096" })
+	public int capacity;
+
+	private BulletField bullets;
+	private BulletEmitter[] emitters;
+	private GameRandom random;
+
+	@Setup(Level.Trial)
+	public void fillField() {
+		bullets = new BulletField("bossBullets", IMAGE_NAME, SpriteManifest.getImageHeight(IMAGE_NAME), capacity);
+		bullets.setTarget(0, SCREEN_HEIGHT / 2);
+		emitters = new BulletEmitter[] { BulletEmitter.spiral(12, 220, .02, -140),
+				BulletEmitter.spread(15, 120, 300, .05), BulletEmitter.aimed(5, 30, 260, .05, 8) };
+		random = new GameRandom(SEED);
+		while (bullets.size() < capacity) {
+			emit();
+		}
+	}
+
+	@Benchmark
+	public int emitAndStep(Blackhole blackhole) {
+		emit();
+		bullets.capturePreviousPositions();
+		bullets.update(SECONDS_PER_TICK);
+		blackhole.consume(bullets.getInterpolatedX(0, 0.5));
+		return bullets.retireOutside(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+	}
+
+	private void emit() {
+		for (BulletEmitter emitter : emitters) {
+			emitter.update(bullets, ORIGIN_X, ORIGIN_Y, SECONDS_PER_TICK, random);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		OptionsBuilder options = new OptionsBuilder();
+		options.include(BulletFieldBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class);
+		for (RunResult run : new Runner(options.build()).run()) {
+			Result<?> allocation = run.getSecondaryResults().get(ALLOCATION_METRIC);
+			if (allocation == null) {
+				throw new IllegalStateException("GC profiler reported no " + ALLOCATION_METRIC);
+			}
+			System.out.printf("%s: %.2f B/op (limit %.2f)%n", ALLOCATION_METRIC, allocation.getScore(),
+					MAX_BYTES_PER_OP);
+			if (allocation.getScore() > MAX_BYTES_PER_OP) {
+				System.err.printf("BulletField step allocates %.2f B/op%n", allocation.getScore());
+				System.exit(1);
+			}
+		}
+	}
+
+}
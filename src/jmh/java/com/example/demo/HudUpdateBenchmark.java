@@ -0,0 +1,54 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.scene.Group;
+
+// Decoding the HUD images needs a running FX toolkit, so this benchmark requires a display.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HudUpdateBenchmark {
+
+	private static final int PLAYER_INITIAL_HEALTH = 5;
+	private BenchmarkLevel level;
+	private LevelView levelView;
+	private KillEvent killEvent;
+
+	@Setup(Level.Trial)
+	public void startToolkit() {
+		Platform.startup(() -> {
+		});
+	}
+
+	@Setup(Level.Iteration)
+	public void createLevelView() {
+		level = new BenchmarkLevel(0, 0);
+		levelView = new LevelView(new Group(), PLAYER_INITIAL_HEALTH);
+		levelView.showHeartDisplay();
+		levelView.subscribe(level, GameEventBus.DIRECT);
+		killEvent = new KillEvent();
+	}
+
+	@Benchmark
+	public void publishKill() {
+		level.getEventBus().publish(killEvent.set(1, level.getUser().getNumberOfKills()));
+	}
+
+}
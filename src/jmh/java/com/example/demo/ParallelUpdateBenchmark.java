@@ -0,0 +1,52 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelUpdateBenchmark {
+
+	@Param({ "100", "1000", "10000" })
+	public int enemies;
+
+	@Param({ "1000", "10000", "50000" })
+	public int projectiles;
+
+	@Param({ "serial", "parallel" })
+	public String mode;
+
+	@Param({ "512" })
+	public int grainSize;
+
+	private BenchmarkLevel level;
+
+	@Setup(Level.Trial)
+	public void createLevel() {
+		level = new BenchmarkLevel(enemies, projectiles);
+		level.setActorUpdater("parallel".equals(mode) ? ActorUpdater.parallel(grainSize) : ActorUpdater.serial());
+		level.populate();
+	}
+
+	@Benchmark
+	public void updateActors() {
+		level.updateActors();
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.example.demo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+	private static final String FIRST_FRAME_MARKER = "skybattle.firstFrame=";
+	private static final String MAIN_MODULE = "com.example.demo/com.example.demo.controller.Main";
+
+	@Param({ "appcds", "default", "off" })
+	public String share;
+
+	private List<String> command;
+
+	@Setup(Level.Trial)
+	public void locateImage() {
+		Path image = Path.of(System.getProperty("skybattle.image", "target/skybattle"));
+		Path java = image.resolve("bin").resolve("java");
+		Path archive = image.resolve("lib").resolve("skybattle.jsa");
+		if (!Files.isExecutable(java)) {
+			throw new IllegalStateException("No runtime image at " + image + ", build it with mvn -Pstartup package");
+		}
+		command = new ArrayList<>();
+		command.add(java.toString());
+		switch (share) {
+			case "appcds":
+				if (!Files.exists(archive)) {
+					throw new IllegalStateException("No AppCDS archive at " + archive);
+				}
+				command.add("-Xshare:auto");
+				command.add("-XX:SharedArchiveFile=" + archive);
+				break;
+			case "off":
+				command.add("-Xshare:off");
+				break;
+			default:
+				break;
+		}
+		command.add("-Dskybattle.exitAfterFirstFrameMillis=0");
+		command.add("-m");
+		command.add(MAIN_MODULE);
+	}
+
+	@Benchmark
+	public long timeToFirstFrame() throws IOException, InterruptedException {
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+			String line;
+			while ((line = output.readLine()) != null) {
+				if (line.startsWith(FIRST_FRAME_MARKER)) {
+					return Long.parseLong(line.substring(FIRST_FRAME_MARKER.length()).trim());
+				}
+			}
+		} finally {
+			process.waitFor(10, TimeUnit.SECONDS);
+			process.destroyForcibly();
+		}
+		throw new IllegalStateException("Game exited before rendering a frame: " + command);
+	}
+
+}
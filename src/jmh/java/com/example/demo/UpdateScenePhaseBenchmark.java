@@ -0,0 +1,164 @@
+package com.example.demo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Each invocation runs the phase once on every world of a freshly populated batch, so the per-invocation
+// setup and timer overhead is amortized over BATCH operations.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateScenePhaseBenchmark {
+
+	private static final int BATCH = 32;
+	private static final long SEED = 42;
+
+	@State(Scope.Thread)
+	public abstract static class World {
+
+		@Param({ "10", "100", "1000" })
+		public int enemies;
+
+		@Param({ "100", "1000", "5000" })
+		public int projectiles;
+
+		public BenchmarkLevel[] levels;
+
+		@Setup(Level.Trial)
+		public void createLevels() {
+			levels = new BenchmarkLevel[BATCH];
+			for (int i = 0; i < BATCH; i++) {
+				levels[i] = new BenchmarkLevel(enemies, projectiles);
+			}
+		}
+
+		protected BenchmarkLevel populate(int i) {
+			BenchmarkLevel level = levels[i];
+			level.getRandom().reseed(SEED + i);
+			level.populate();
+			return level;
+		}
+
+	}
+
+	public static class PopulatedWorld extends World {
+
+		@Setup(Level.Invocation)
+		public void populateAll() {
+			for (int i = 0; i < BATCH; i++) {
+				populate(i);
+			}
+		}
+
+	}
+
+	public static class DepletedWorld extends World {
+
+		@Setup(Level.Invocation)
+		public void populateAndRemoveEnemies() {
+			for (int i = 0; i < BATCH; i++) {
+				populate(i).removeSomeEnemies();
+			}
+		}
+
+	}
+
+	public static class DamagedWorld extends World {
+
+		@Setup(Level.Invocation)
+		public void populateAndDestroy() {
+			for (int i = 0; i < BATCH; i++) {
+				populate(i).destroySome();
+			}
+		}
+
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void spawn(DepletedWorld world) {
+		for (BenchmarkLevel level : world.levels) {
+			level.spawnEnemyUnits(level.getSecondsPerTick());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void updateActors(PopulatedWorld world) {
+		for (BenchmarkLevel level : world.levels) {
+			level.updateActors();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void generateEnemyFire(PopulatedWorld world) {
+		for (BenchmarkLevel level : world.levels) {
+			level.generateEnemyFire();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void cacheAllBounds(PopulatedWorld world) {
+		for (BenchmarkLevel level : world.levels) {
+			level.cacheAllBounds();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void userProjectileCollisions(PopulatedWorld world) {
+		for (BenchmarkLevel level : world.levels) {
+			level.handleUserProjectileCollisions();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void enemyProjectileCollisions(PopulatedWorld world) {
+		for (BenchmarkLevel level : world.levels) {
+			level.handleEnemyProjectileCollisions();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void planeCollisions(PopulatedWorld world) {
+		for (BenchmarkLevel level : world.levels) {
+			level.handlePlaneCollisions();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void removeAllDestroyedActors(DamagedWorld world) {
+		for (BenchmarkLevel level : world.levels) {
+			level.removeAllDestroyedActors();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void tick(PopulatedWorld world) {
+		for (BenchmarkLevel level : world.levels) {
+			level.tick();
+		}
+	}
+
+}
@@ -1,28 +1,98 @@
 package com.example.demo;
 
-import javafx.scene.image.*;
-
-public abstract class ActiveActor extends ImageView {
+public abstract class ActiveActor {
 	
-	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	private final String imagePath;
+	private final int imageHeight;
+	private final double imageWidth;
+	private double layoutX;
+	private double layoutY;
+	private double translateX;
+	private double translateY;
+	private double previousTranslateX;
+	private double previousTranslateY;
 
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		//this.setImage(new Image(IMAGE_LOCATION + imageName));
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
-		this.setLayoutX(initialXPos);
-		this.setLayoutY(initialYPos);
-		this.setFitHeight(imageHeight);
-		this.setPreserveRatio(true);
+		this.imagePath = SpriteManifest.IMAGE_LOCATION + imageName;
+		this.imageHeight = imageHeight;
+		this.imageWidth = SpriteMetrics.getScaledWidth(imagePath, imageHeight);
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
+	}
+
+	public abstract void updatePosition(double deltaSeconds);
+
+	protected void resetPosition(double xPos, double yPos) {
+		this.layoutX = xPos;
+		this.layoutY = yPos;
+		this.translateX = 0;
+		this.translateY = 0;
+		capturePreviousPosition();
+	}
+
+	public void capturePreviousPosition() {
+		this.previousTranslateX = translateX;
+		this.previousTranslateY = translateY;
+	}
+
+	public double getInterpolatedTranslateX(double alpha) {
+		return previousTranslateX + (translateX - previousTranslateX) * alpha;
 	}
 
-	public abstract void updatePosition();
+	public double getInterpolatedTranslateY(double alpha) {
+		return previousTranslateY + (translateY - previousTranslateY) * alpha;
+	}
 
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		this.translateX += horizontalMove;
 	}
 
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		this.translateY += verticalMove;
+	}
+
+	public String getImagePath() {
+		return imagePath;
+	}
+
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	public double getImageWidth() {
+		return imageWidth;
+	}
+
+	public double getLayoutX() {
+		return layoutX;
+	}
+
+	public double getLayoutY() {
+		return layoutY;
+	}
+
+	public double getTranslateX() {
+		return translateX;
+	}
+
+	public double getTranslateY() {
+		return translateY;
+	}
+
+	protected void setTranslateX(double translateX) {
+		this.translateX = translateX;
+	}
+
+	protected void setTranslateY(double translateY) {
+		this.translateY = translateY;
+	}
+
+	public double getX() {
+		return layoutX + translateX;
+	}
+
+	public double getY() {
+		return layoutY + translateY;
 	}
 
 }
@@ -3,16 +3,23 @@ package com.example.demo;
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
 	private boolean isDestroyed;
+	private final CollisionMask collisionMask;
+	private ActorPool<?> pool;
+	private double cachedMinX;
+	private double cachedMinY;
+	private double cachedMaxX;
+	private double cachedMaxY;
 
 	public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
 		isDestroyed = false;
+		collisionMask = CollisionMask.forSprite(getImagePath(), imageHeight);
 	}
 
 	@Override
-	public abstract void updatePosition();
+	public abstract void updatePosition(double deltaSeconds);
 
-	public abstract void updateActor();
+	public abstract void updateActor(double deltaSeconds);
 
 	@Override
 	public abstract void takeDamage();
@@ -29,5 +36,67 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	public boolean isDestroyed() {
 		return isDestroyed;
 	}
+
+	public void cacheBounds() {
+		cachedMinX = getX();
+		cachedMinY = getY();
+		cachedMaxX = cachedMinX + getImageWidth();
+		cachedMaxY = cachedMinY + getImageHeight();
+	}
+
+	public boolean boundsIntersect(ActiveActorDestructible other) {
+		double minX = getX();
+		double minY = getY();
+		double otherMinX = other.getX();
+		double otherMinY = other.getY();
+		return otherMinX + other.getImageWidth() >= minX && otherMinY + other.getImageHeight() >= minY
+				&& otherMinX <= minX + getImageWidth() && otherMinY <= minY + getImageHeight();
+	}
+
+	public boolean cachedBoundsIntersect(ActiveActorDestructible other) {
+		return other.cachedMaxX >= cachedMinX && other.cachedMaxY >= cachedMinY
+				&& other.cachedMinX <= cachedMaxX && other.cachedMinY <= cachedMaxY;
+	}
+
+	public boolean masksIntersect(ActiveActorDestructible other) {
+		int offsetX = (int) Math.round(other.getX() - getX());
+		int offsetY = (int) Math.round(other.getY() - getY());
+		return collisionMask.overlaps(other.collisionMask, offsetX, offsetY);
+	}
+
+	public CollisionMask getCollisionMask() {
+		return collisionMask;
+	}
+
+	public double getCachedMinX() {
+		return cachedMinX;
+	}
+
+	public double getCachedMinY() {
+		return cachedMinY;
+	}
+
+	public double getCachedMaxX() {
+		return cachedMaxX;
+	}
+
+	public double getCachedMaxY() {
+		return cachedMaxY;
+	}
+
+	public void reset(double xPos, double yPos) {
+		resetPosition(xPos, yPos);
+		setDestroyed(false);
+	}
+
+	public void recycle() {
+		if (pool != null) {
+			pool.release(this);
+		}
+	}
+
+	void setPool(ActorPool<?> pool) {
+		this.pool = pool;
+	}
 	
 }
@@ -0,0 +1,106 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ActorLifecycleManager {
+
+	private static final double DEFAULT_MARGIN = 200;
+	private final double minX;
+	private final double minY;
+	private final double maxX;
+	private final double maxY;
+	private final Map<Class<?>, TypeCounts> counts;
+
+	public ActorLifecycleManager(double worldWidth, double worldHeight, double margin) {
+		this.minX = -margin;
+		this.minY = -margin;
+		this.maxX = worldWidth + margin;
+		this.maxY = worldHeight + margin;
+		this.counts = new LinkedHashMap<>();
+	}
+
+	public ActorLifecycleManager(double worldWidth, double worldHeight) {
+		this(worldWidth, worldHeight, GameConfig.getDouble("despawnMargin", DEFAULT_MARGIN));
+	}
+
+	public int retireOutOfBounds(List<ActiveActorDestructible> actors) {
+		int retired = 0;
+		for (int i = 0; i < actors.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (!actor.isDestroyed() && isOutOfBounds(actor)) {
+				actor.destroy();
+				countsFor(actor).retired++;
+				retired++;
+			}
+		}
+		return retired;
+	}
+
+	public int retireOutOfBounds(BulletField bullets) {
+		return bullets.retireOutside(minX, minY, maxX, maxY);
+	}
+
+	public boolean isOutOfBounds(ActiveActor actor) {
+		double x = actor.getX();
+		double y = actor.getY();
+		return x + actor.getImageWidth() < minX || x > maxX || y + actor.getImageHeight() < minY || y > maxY;
+	}
+
+	public Collection<TypeCounts> countLive(List<List<ActiveActorDestructible>> actorLists) {
+		for (TypeCounts typeCounts : counts.values()) {
+			typeCounts.live = 0;
+		}
+		for (List<ActiveActorDestructible> actors : actorLists) {
+			for (int i = 0; i < actors.size(); i++) {
+				ActiveActorDestructible actor = actors.get(i);
+				if (!actor.isDestroyed()) {
+					countsFor(actor).live++;
+				}
+			}
+		}
+		return new ArrayList<>(counts.values());
+	}
+
+	private TypeCounts countsFor(ActiveActor actor) {
+		TypeCounts typeCounts = counts.get(actor.getClass());
+		if (typeCounts == null) {
+			typeCounts = new TypeCounts(actor.getClass().getSimpleName());
+			counts.put(actor.getClass(), typeCounts);
+		}
+		return typeCounts;
+	}
+
+	public static class TypeCounts {
+
+		private final String name;
+		private int live;
+		private long retired;
+
+		TypeCounts(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public int getLive() {
+			return live;
+		}
+
+		public long getRetired() {
+			return retired;
+		}
+
+		@Override
+		public String toString() {
+			return name + " [live=" + live + ", retired=" + retired + "]";
+		}
+
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.example.demo;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Supplier;
+
+public class ActorPool<T extends ActiveActorDestructible> {
+
+	private final String name;
+	private final Supplier<T> factory;
+	private int capacity;
+	private final Deque<T> available;
+	private String imagePath;
+	private int imageHeight;
+	private long hits;
+	private long misses;
+	private long discards;
+
+	public ActorPool(String name, Supplier<T> factory, int capacity) {
+		this.name = name;
+		this.factory = factory;
+		this.capacity = capacity;
+		this.available = new ArrayDeque<>(capacity);
+	}
+
+	public T acquire(double xPos, double yPos) {
+		T actor = available.pollLast();
+		if (actor == null) {
+			misses++;
+			actor = create();
+		} else {
+			hits++;
+		}
+		actor.reset(xPos, yPos);
+		return actor;
+	}
+
+	public void prewarm(int count) {
+		while (available.size() < Math.min(count, capacity)) {
+			available.addLast(create());
+		}
+	}
+
+	public void ensureCapacity(int minimumCapacity) {
+		capacity = Math.max(capacity, minimumCapacity);
+	}
+
+	private T create() {
+		T actor = factory.get();
+		actor.setPool(this);
+		imagePath = actor.getImagePath();
+		imageHeight = actor.getImageHeight();
+		return actor;
+	}
+
+	@SuppressWarnings("unchecked")
+	void release(ActiveActorDestructible actor) {
+		if (available.size() < capacity) {
+			available.addLast((T) actor);
+		} else {
+			discards++;
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getImagePath() {
+		return imagePath;
+	}
+
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public int getAvailable() {
+		return available.size();
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public long getDiscards() {
+		return discards;
+	}
+
+	@Override
+	public String toString() {
+		return name + " [hits=" + hits + ", misses=" + misses + ", discards=" + discards + ", available="
+				+ available.size() + "/" + capacity + "]";
+	}
+
+}
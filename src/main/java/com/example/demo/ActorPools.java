@@ -0,0 +1,92 @@
+package com.example.demo;
+
+import java.util.List;
+import java.util.Set;
+
+public class ActorPools {
+
+	private static final int USER_PROJECTILE_POOL_SIZE = 64;
+	private static final int ENEMY_PROJECTILE_POOL_SIZE = 128;
+	private static final String BOSS_BULLET_IMAGE_NAME = "fireball.png";
+	private static final int BOSS_BULLET_HEIGHT = SpriteManifest.getImageHeight(BOSS_BULLET_IMAGE_NAME);
+	private static final int DEFAULT_BOSS_BULLET_CAPACITY = 4096;
+	private static final String BOSS_BULLETS_NAME = "bossBullets";
+	private static final int ENEMY_PLANE_POOL_SIZE = 16;
+	private static final double UNSPAWNED_POSITION = 0;
+	private static final int PREWARM_COUNT = 8;
+	private static final long UNSEEDED = 0;
+
+	private final ActorPool<UserProjectile> userProjectiles;
+	private final ActorPool<EnemyProjectile> enemyProjectiles;
+	private final BulletField noBossBullets;
+	private BulletField bossBullets;
+	private final ActorPool<EnemyPlane> enemyPlanes;
+	private final GameRandom spawnRandom;
+
+	public ActorPools(GameRandom random) {
+		this.userProjectiles = new ActorPool<>("userProjectiles",
+				() -> new UserProjectile(UNSPAWNED_POSITION, UNSPAWNED_POSITION), USER_PROJECTILE_POOL_SIZE);
+		this.enemyProjectiles = new ActorPool<>("enemyProjectiles",
+				() -> new EnemyProjectile(UNSPAWNED_POSITION, UNSPAWNED_POSITION), ENEMY_PROJECTILE_POOL_SIZE);
+		this.noBossBullets = BulletField.empty(BOSS_BULLETS_NAME);
+		this.enemyPlanes = new ActorPool<>("enemyPlanes",
+				() -> new EnemyPlane(UNSPAWNED_POSITION, UNSPAWNED_POSITION, new GameRandom(UNSEEDED)),
+				ENEMY_PLANE_POOL_SIZE);
+		this.spawnRandom = random;
+	}
+
+	public ActorPool<UserProjectile> getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	public ActorPool<EnemyProjectile> getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+
+	public BulletField getBossBullets() {
+		return bossBullets != null ? bossBullets : noBossBullets;
+	}
+
+	public BulletField openBossBullets() {
+		if (bossBullets == null) {
+			bossBullets = new BulletField(BOSS_BULLETS_NAME, BOSS_BULLET_IMAGE_NAME, BOSS_BULLET_HEIGHT,
+					GameConfig.getInt("bossBulletCapacity", DEFAULT_BOSS_BULLET_CAPACITY));
+		}
+		return bossBullets;
+	}
+
+	public ActorPool<EnemyPlane> getEnemyPlanes() {
+		return enemyPlanes;
+	}
+
+	public EnemyPlane acquireEnemyPlane(double xPos, double yPos) {
+		EnemyPlane plane = enemyPlanes.acquire(xPos, yPos);
+		plane.reseedRandom(spawnRandom.nextLong());
+		return plane;
+	}
+
+	public void prewarm() {
+		getAll().forEach(pool -> pool.prewarm(PREWARM_COUNT));
+	}
+
+	public void collectSprites(Set<SpriteCache.Request> sprites) {
+		for (ActorPool<?> pool : getAll()) {
+			if (pool.getImagePath() != null) {
+				sprites.add(SpriteCache.Request.ofHeight(pool.getImagePath(), pool.getImageHeight()));
+			}
+		}
+		if (bossBullets != null) {
+			sprites.add(SpriteCache.Request.ofHeight(bossBullets.getImagePath(), bossBullets.getImageHeight()));
+		}
+	}
+
+	public List<ActorPool<?>> getAll() {
+		return List.of(userProjectiles, enemyProjectiles, enemyPlanes);
+	}
+
+	@Override
+	public String toString() {
+		return getAll() + " " + getBossBullets();
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.example.demo;
+
+import javafx.scene.Node;
+
+public interface ActorRenderer {
+
+	String NODES = "nodes";
+	String CANVAS = "canvas";
+
+	Node getNode();
+
+	void sync(WorldSnapshot snapshot, double alpha);
+
+	void dispose();
+
+	static ActorRenderer fromConfig(double screenWidth, double screenHeight) {
+		return forName(GameConfig.getString("renderer", NODES), screenWidth, screenHeight);
+	}
+
+	static ActorRenderer forName(String name, double screenWidth, double screenHeight) {
+		switch (name) {
+			case NODES:
+				return new ActorViewLayer();
+			case CANVAS:
+				return new CanvasActorRenderer(screenWidth, screenHeight);
+			default:
+				throw new IllegalArgumentException("Unknown renderer: " + name);
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.example.demo;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ActorUpdater {
+
+	private static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+	private static final int DEFAULT_GRAIN_SIZE = 512;
+	private static final int SERIAL_THRESHOLD = Integer.MAX_VALUE;
+	private final int parallelThreshold;
+	private final int grainSize;
+	private final ForkJoinPool pool;
+
+	public ActorUpdater(int parallelThreshold, int grainSize, ForkJoinPool pool) {
+		this.parallelThreshold = parallelThreshold;
+		this.grainSize = Math.max(1, grainSize);
+		this.pool = pool;
+	}
+
+	public static ActorUpdater fromConfig() {
+		return new ActorUpdater(GameConfig.getInt("parallelThreshold", DEFAULT_PARALLEL_THRESHOLD),
+				GameConfig.getInt("parallelGrainSize", DEFAULT_GRAIN_SIZE), ForkJoinPool.commonPool());
+	}
+
+	public static ActorUpdater serial() {
+		return new ActorUpdater(SERIAL_THRESHOLD, DEFAULT_GRAIN_SIZE, ForkJoinPool.commonPool());
+	}
+
+	public static ActorUpdater parallel(int grainSize) {
+		return new ActorUpdater(0, grainSize, ForkJoinPool.commonPool());
+	}
+
+	public void update(List<ActiveActorDestructible> actors, double deltaSeconds) {
+		int size = actors.size();
+		if (size < parallelThreshold || size <= grainSize || pool.getParallelism() < 2) {
+			updateRange(actors, 0, size, deltaSeconds);
+		} else {
+			pool.invoke(new UpdateTask(actors, 0, size, deltaSeconds, grainSize));
+		}
+	}
+
+	private static void updateRange(List<ActiveActorDestructible> actors, int from, int to, double deltaSeconds) {
+		for (int i = from; i < to; i++) {
+			actors.get(i).updateActor(deltaSeconds);
+		}
+	}
+
+	private static class UpdateTask extends RecursiveAction {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+		private final transient List<ActiveActorDestructible> actors;
+		private final int from;
+		private final int to;
+		private final double deltaSeconds;
+		private final int grainSize;
+
+		UpdateTask(List<ActiveActorDestructible> actors, int from, int to, double deltaSeconds, int grainSize) {
+			this.actors = actors;
+			this.from = from;
+			this.to = to;
+			this.deltaSeconds = deltaSeconds;
+			this.grainSize = grainSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= grainSize) {
+				updateRange(actors, from, to, deltaSeconds);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new UpdateTask(actors, from, middle, deltaSeconds, grainSize),
+					new UpdateTask(actors, middle, to, deltaSeconds, grainSize));
+		}
+
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.example.demo;
+
+import javafx.scene.image.ImageView;
+
+public class ActorView extends ImageView {
+
+	private final String imagePath;
+	private ActiveActorDestructible actor;
+	private long lastSyncedFrame;
+
+	public ActorView(String imagePath, int imageHeight) {
+		this.imagePath = imagePath;
+		SpriteAtlas.show(this, SpriteCache.Request.ofHeight(imagePath, imageHeight));
+		this.setFitHeight(imageHeight);
+		this.setPreserveRatio(true);
+	}
+
+	public void bind(ActiveActorDestructible actor) {
+		this.actor = actor;
+	}
+
+	public void sync(long frame, double x, double y) {
+		this.setTranslateX(x);
+		this.setTranslateY(y);
+		this.lastSyncedFrame = frame;
+	}
+
+	public String getImagePath() {
+		return imagePath;
+	}
+
+	public ActiveActorDestructible getActor() {
+		return actor;
+	}
+
+	public long getLastSyncedFrame() {
+		return lastSyncedFrame;
+	}
+
+}
@@ -0,0 +1,141 @@
+package com.example.demo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+
+public class ActorViewLayer implements ActorRenderer {
+
+	private final Group layer;
+	private final Map<ActiveActorDestructible, ActorView> views;
+	private final List<ActorView> attachedViews;
+	private final Map<String, ArrayDeque<ActorView>> detachedViews;
+	private final List<Node> viewsToAdd;
+	private final Set<ActorView> viewsToRemove;
+	private final List<ImageView> bulletViews;
+	private long frame;
+
+	public ActorViewLayer() {
+		this.layer = new Group();
+		this.views = new IdentityHashMap<>();
+		this.attachedViews = new ArrayList<>();
+		this.detachedViews = new HashMap<>();
+		this.viewsToAdd = new ArrayList<>();
+		this.viewsToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+		this.bulletViews = new ArrayList<>();
+	}
+
+	@Override
+	public Node getNode() {
+		return layer;
+	}
+
+	@Override
+	public void sync(WorldSnapshot snapshot, double alpha) {
+		frame++;
+		syncActors(snapshot, alpha);
+		detachStaleViews();
+		syncBullets(snapshot, alpha);
+		if (!viewsToRemove.isEmpty()) {
+			layer.getChildren().removeAll(viewsToRemove);
+			viewsToRemove.clear();
+		}
+		if (!viewsToAdd.isEmpty()) {
+			layer.getChildren().addAll(viewsToAdd);
+			viewsToAdd.clear();
+		}
+	}
+
+	@Override
+	public void dispose() {
+		layer.getChildren().clear();
+		for (ActorView view : attachedViews) {
+			view.bind(null);
+		}
+		views.clear();
+		attachedViews.clear();
+		detachedViews.clear();
+		viewsToAdd.clear();
+		viewsToRemove.clear();
+		bulletViews.clear();
+	}
+
+	private void syncBullets(WorldSnapshot snapshot, double alpha) {
+		int bulletCount = snapshot.getBulletCount();
+		SpriteCache.Request sprite = null;
+		for (int i = bulletViews.size(); i < bulletCount; i++) {
+			if (sprite == null) {
+				sprite = SpriteCache.Request.ofHeight(snapshot.getBulletImagePath(), snapshot.getBulletImageHeight());
+			}
+			ImageView view = new ImageView();
+			SpriteAtlas.show(view, sprite);
+			view.setFitHeight(snapshot.getBulletImageHeight());
+			view.setPreserveRatio(true);
+			bulletViews.add(view);
+			viewsToAdd.add(view);
+		}
+		for (int i = 0; i < bulletViews.size(); i++) {
+			ImageView view = bulletViews.get(i);
+			boolean live = i < bulletCount;
+			if (live) {
+				view.setTranslateX(snapshot.getBulletX(i, alpha));
+				view.setTranslateY(snapshot.getBulletY(i, alpha));
+			}
+			if (view.isVisible() != live) {
+				view.setVisible(live);
+			}
+		}
+	}
+
+	private void syncActors(WorldSnapshot snapshot, double alpha) {
+		for (int i = 0; i < snapshot.getActorCount(); i++) {
+			ActiveActorDestructible actor = snapshot.getActor(i);
+			ActorView view = views.get(actor);
+			if (view == null) {
+				view = attach(actor);
+			}
+			view.sync(frame, snapshot.getActorX(i, alpha), snapshot.getActorY(i, alpha));
+		}
+	}
+
+	private ActorView attach(ActiveActorDestructible actor) {
+		ArrayDeque<ActorView> pooled = detachedViews.get(actor.getImagePath());
+		ActorView view = pooled == null ? null : pooled.pollLast();
+		if (view == null) {
+			view = new ActorView(actor.getImagePath(), actor.getImageHeight());
+		}
+		view.bind(actor);
+		views.put(actor, view);
+		attachedViews.add(view);
+		viewsToAdd.add(view);
+		return view;
+	}
+
+	private void detachStaleViews() {
+		int kept = 0;
+		for (int i = 0; i < attachedViews.size(); i++) {
+			ActorView view = attachedViews.get(i);
+			if (view.getLastSyncedFrame() == frame) {
+				attachedViews.set(kept++, view);
+			} else {
+				views.remove(view.getActor());
+				view.bind(null);
+				viewsToRemove.add(view);
+				detachedViews.computeIfAbsent(view.getImagePath(), path -> new ArrayDeque<>()).addLast(view);
+			}
+		}
+		for (int i = attachedViews.size() - 1; i >= kept; i--) {
+			attachedViews.remove(i);
+		}
+	}
+
+}
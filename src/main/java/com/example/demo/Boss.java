@@ -1,44 +1,51 @@
 package com.example.demo;
 
-import java.util.*;
-
-public class Boss extends FighterPlane {
+public class Boss extends EnemyFighterPlane {
 
 	private static final String IMAGE_NAME = "bossplane.png";
 	private static final double INITIAL_X_POSITION = 1000.0;
 	private static final double INITIAL_Y_POSITION = 400;
-	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
-	private static final double BOSS_FIRE_RATE = .04;
-	private static final double BOSS_SHIELD_PROBABILITY = .002;
-	private static final int IMAGE_HEIGHT = 300;
-	private static final int VERTICAL_VELOCITY = 8;
+	private static final double EMITTER_X_OFFSET = 40.0;
+	private static final double EMITTER_Y_OFFSET = 112.0;
+	private static final double BOSS_SHIELD_RATE = .04;
+	private static final int IMAGE_HEIGHT = SpriteManifest.getImageHeight(IMAGE_NAME);
 	private static final int HEALTH = 100;
-	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
-	private static final int ZERO = 0;
-	private static final int MAX_FRAMES_WITH_SAME_MOVE = 10;
 	private static final int Y_POSITION_UPPER_BOUND = -100;
 	private static final int Y_POSITION_LOWER_BOUND = 475;
-	private static final int MAX_FRAMES_WITH_SHIELD = 500;
-	private final List<Integer> movePattern;
+	private static final double MAX_SECONDS_WITH_SHIELD = 25;
+	private final BossPhase[] phases;
+	private BossPhase currentPhase;
 	private boolean isShielded;
-	private int consecutiveMovesInSameDirection;
-	private int indexOfCurrentMove;
-	private int framesWithShieldActivated;
+	private double secondsWithShieldActivated;
 
-	public Boss() {
-		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
-		movePattern = new ArrayList<>();
-		consecutiveMovesInSameDirection = 0;
-		indexOfCurrentMove = 0;
-		framesWithShieldActivated = 0;
+	public Boss(GameRandom random) {
+		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH, random);
+		phases = createPhases();
+		secondsWithShieldActivated = 0;
 		isShielded = false;
-		initializeMovePattern();
+	}
+
+	private static BossPhase[] createPhases() {
+		return new BossPhase[] {
+				new BossPhase(.66,
+						new MovementScript(Y_POSITION_UPPER_BOUND, Y_POSITION_LOWER_BOUND).moveToRandom(1.2).hold(.6),
+						BulletEmitter.spread(5, 40, 260, 1.1),
+						BulletEmitter.aimed(3, 12, 320, 2, 4)),
+				new BossPhase(.33,
+						new MovementScript(Y_POSITION_UPPER_BOUND, Y_POSITION_LOWER_BOUND).moveTo(180, 1.5).hold(2)
+								.moveToRandom(1).moveToRandom(1),
+						BulletEmitter.spiral(4, 200, .12, 90),
+						BulletEmitter.aimed(5, 20, 360, 1.2, 3)),
+				new BossPhase(0,
+						new MovementScript(Y_POSITION_UPPER_BOUND, Y_POSITION_LOWER_BOUND).moveToRandom(.6).hold(.3),
+						BulletEmitter.spiral(6, 220, .08, -140),
+						BulletEmitter.spread(9, 70, 300, .7)) };
 	}
 
 	@Override
-	public void updatePosition() {
+	public void updatePosition(double deltaSeconds) {
 		double initialTranslateY = getTranslateY();
-		moveVertically(getNextMove());
+		moveVertically(getPhase().getVelocity(getY(), deltaSeconds, getRandom()) * deltaSeconds);
 		double currentPosition = getLayoutY() + getTranslateY();
 		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
 			setTranslateY(initialTranslateY);
@@ -46,14 +53,16 @@ public class Boss extends FighterPlane {
 	}
 	
 	@Override
-	public void updateActor() {
-		updatePosition();
-		updateShield();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
+		updateShield(deltaSeconds);
 	}
 
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+	public ActiveActorDestructible fireProjectile(ActorPools pools, double deltaSeconds) {
+		getPhase().emit(pools.getBossBullets(), getX() + EMITTER_X_OFFSET, getY() + EMITTER_Y_OFFSET, deltaSeconds,
+				getRandom());
+		return null;
 	}
 	
 	@Override
@@ -63,49 +72,38 @@ public class Boss extends FighterPlane {
 		}
 	}
 
-	private void initializeMovePattern() {
-		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-			movePattern.add(VERTICAL_VELOCITY);
-			movePattern.add(-VERTICAL_VELOCITY);
-			movePattern.add(ZERO);
-		}
-		Collections.shuffle(movePattern);
-	}
-
-	private void updateShield() {
-		if (isShielded) framesWithShieldActivated++;
-		else if (shieldShouldBeActivated()) activateShield();	
-		if (shieldExhausted()) deactivateShield();
+	public boolean isShielded() {
+		return isShielded;
 	}
 
-	private int getNextMove() {
-		int currentMove = movePattern.get(indexOfCurrentMove);
-		consecutiveMovesInSameDirection++;
-		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
-			consecutiveMovesInSameDirection = 0;
-			indexOfCurrentMove++;
+	private BossPhase getPhase() {
+		double healthFraction = (double) getHealth() / HEALTH;
+		BossPhase phase = phases[phases.length - 1];
+		for (BossPhase candidate : phases) {
+			if (candidate.appliesTo(healthFraction)) {
+				phase = candidate;
+				break;
+			}
 		}
-		if (indexOfCurrentMove == movePattern.size()) {
-			indexOfCurrentMove = 0;
+		if (phase != currentPhase) {
+			currentPhase = phase;
+			phase.enter();
 		}
-		return currentMove;
+		return phase;
 	}
 
-	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
-	}
-
-	private double getProjectileInitialPosition() {
-		return getLayoutY() + getTranslateY() + PROJECTILE_Y_POSITION_OFFSET;
+	private void updateShield(double deltaSeconds) {
+		if (isShielded) secondsWithShieldActivated += deltaSeconds;
+		else if (shieldShouldBeActivated(deltaSeconds)) activateShield();
+		if (shieldExhausted()) deactivateShield();
 	}
 
-	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+	private boolean shieldShouldBeActivated(double deltaSeconds) {
+		return getRandom().chance(BOSS_SHIELD_RATE * deltaSeconds);
 	}
 
 	private boolean shieldExhausted() {
-		return framesWithShieldActivated == MAX_FRAMES_WITH_SHIELD;
+		return secondsWithShieldActivated >= MAX_SECONDS_WITH_SHIELD;
 	}
 
 	private void activateShield() {
@@ -114,7 +112,7 @@ public class Boss extends FighterPlane {
 
 	private void deactivateShield() {
 		isShielded = false;
-		framesWithShieldActivated = 0;
+		secondsWithShieldActivated = 0;
 	}
 
 }
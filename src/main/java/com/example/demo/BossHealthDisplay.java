@@ -0,0 +1,54 @@
+package com.example.demo;
+
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+public class BossHealthDisplay {
+
+	private static final String LABEL = "Boss: ";
+	private static final double BAR_WIDTH = 300;
+	private static final double BAR_HEIGHT = 20;
+	private static final double LABEL_Y_OFFSET = -6;
+	private static final int FONT_SIZE = 18;
+	private static final int NOT_SHOWN = -1;
+	private final Group container;
+	private final Rectangle bar;
+	private final Text label;
+	private final int maximumHealth;
+	private int healthShown;
+
+	public BossHealthDisplay(double xPosition, double yPosition, int maximumHealth) {
+		this.maximumHealth = maximumHealth;
+		this.container = new Group();
+		this.container.setLayoutX(xPosition);
+		this.container.setLayoutY(yPosition);
+		Rectangle frame = new Rectangle(BAR_WIDTH, BAR_HEIGHT, Color.TRANSPARENT);
+		frame.setStroke(Color.WHITE);
+		this.bar = new Rectangle(BAR_WIDTH, BAR_HEIGHT, Color.RED);
+		this.label = new Text(0, LABEL_Y_OFFSET, "");
+		this.label.setFont(Font.font(null, FontWeight.BOLD, FONT_SIZE));
+		this.label.setFill(Color.WHITE);
+		this.container.getChildren().addAll(bar, frame, label);
+		this.healthShown = NOT_SHOWN;
+		showHealth(maximumHealth);
+	}
+
+	public void showHealth(int health) {
+		int clampedHealth = Math.max(0, health);
+		if (clampedHealth == healthShown) {
+			return;
+		}
+		bar.setWidth(BAR_WIDTH * clampedHealth / maximumHealth);
+		label.setText(LABEL + clampedHealth + "/" + maximumHealth);
+		healthShown = clampedHealth;
+	}
+
+	public Group getContainer() {
+		return container;
+	}
+
+}
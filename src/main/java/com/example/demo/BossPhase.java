@@ -0,0 +1,36 @@
+package com.example.demo;
+
+public final class BossPhase {
+
+	private final double minHealthFraction;
+	private final MovementScript movement;
+	private final BulletEmitter[] emitters;
+
+	public BossPhase(double minHealthFraction, MovementScript movement, BulletEmitter... emitters) {
+		this.minHealthFraction = minHealthFraction;
+		this.movement = movement;
+		this.emitters = emitters;
+	}
+
+	public boolean appliesTo(double healthFraction) {
+		return healthFraction > minHealthFraction;
+	}
+
+	public void enter() {
+		movement.reset();
+		for (BulletEmitter emitter : emitters) {
+			emitter.reset();
+		}
+	}
+
+	public double getVelocity(double currentY, double deltaSeconds, GameRandom random) {
+		return movement.getVelocity(currentY, deltaSeconds, random);
+	}
+
+	public void emit(BulletField bullets, double originX, double originY, double deltaSeconds, GameRandom random) {
+		for (BulletEmitter emitter : emitters) {
+			emitter.update(bullets, originX, originY, deltaSeconds, random);
+		}
+	}
+
+}
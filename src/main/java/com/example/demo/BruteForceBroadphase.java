@@ -0,0 +1,19 @@
+package com.example.demo;
+
+import java.util.List;
+
+public class BruteForceBroadphase implements CollisionBroadphase {
+
+	@Override
+	public void detectCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2,
+			CollisionHandler handler) {
+		for (ActiveActorDestructible actor : actors2) {
+			for (ActiveActorDestructible otherActor : actors1) {
+				if (actor.boundsIntersect(otherActor)) {
+					handler.onCollision(actor, otherActor);
+				}
+			}
+		}
+	}
+
+}
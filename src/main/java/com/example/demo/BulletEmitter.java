@@ -0,0 +1,93 @@
+package com.example.demo;
+
+public final class BulletEmitter {
+
+	private static final double FULL_TURN = 2 * Math.PI;
+	private static final double LEFT = Math.PI;
+
+	enum Kind {
+		SPREAD, SPIRAL, AIMED
+	}
+
+	private final Kind kind;
+	private final int count;
+	private final double arc;
+	private final double speed;
+	private final double interval;
+	private final double spin;
+	private final double jitter;
+	private double secondsUntilNextShot;
+	private double angle;
+
+	private BulletEmitter(Kind kind, int count, double arcDegrees, double speed, double interval,
+			double spinDegreesPerSecond, double jitterDegrees) {
+		this.kind = kind;
+		this.count = count;
+		this.arc = Math.toRadians(arcDegrees);
+		this.speed = speed;
+		this.interval = interval;
+		this.spin = Math.toRadians(spinDegreesPerSecond);
+		this.jitter = Math.toRadians(jitterDegrees);
+		reset();
+	}
+
+	public static BulletEmitter spread(int count, double arcDegrees, double speed, double interval) {
+		return new BulletEmitter(Kind.SPREAD, count, arcDegrees, speed, interval, 0, 0);
+	}
+
+	public static BulletEmitter spiral(int arms, double speed, double interval, double spinDegreesPerSecond) {
+		return new BulletEmitter(Kind.SPIRAL, arms, 0, speed, interval, spinDegreesPerSecond, 0);
+	}
+
+	public static BulletEmitter aimed(int count, double arcDegrees, double speed, double interval,
+			double jitterDegrees) {
+		return new BulletEmitter(Kind.AIMED, count, arcDegrees, speed, interval, 0, jitterDegrees);
+	}
+
+	public void reset() {
+		secondsUntilNextShot = interval;
+		angle = LEFT;
+	}
+
+	public void update(BulletField bullets, double originX, double originY, double deltaSeconds,
+			GameRandom random) {
+		angle = (angle + spin * deltaSeconds) % FULL_TURN;
+		secondsUntilNextShot -= deltaSeconds;
+		while (secondsUntilNextShot <= 0) {
+			fire(bullets, originX, originY, random);
+			secondsUntilNextShot += interval;
+		}
+	}
+
+	private void fire(BulletField bullets, double originX, double originY, GameRandom random) {
+		switch (kind) {
+			case SPREAD:
+				fan(bullets, originX, originY, LEFT);
+				break;
+			case SPIRAL:
+				for (int i = 0; i < count; i++) {
+					emit(bullets, originX, originY, angle + FULL_TURN * i / count);
+				}
+				break;
+			case AIMED:
+				double aim = Math.atan2(bullets.getTargetY() - originY, bullets.getTargetX() - originX);
+				fan(bullets, originX, originY, aim + (random.nextDouble() - 0.5) * 2 * jitter);
+				break;
+		}
+	}
+
+	private void fan(BulletField bullets, double originX, double originY, double direction) {
+		if (count == 1) {
+			emit(bullets, originX, originY, direction);
+			return;
+		}
+		for (int i = 0; i < count; i++) {
+			emit(bullets, originX, originY, direction + arc * ((double) i / (count - 1) - 0.5));
+		}
+	}
+
+	private void emit(BulletField bullets, double originX, double originY, double direction) {
+		bullets.spawn(originX, originY, Math.cos(direction) * speed, Math.sin(direction) * speed);
+	}
+
+}
@@ -0,0 +1,191 @@
+package com.example.demo;
+
+public final class BulletField {
+
+	private static final boolean PIXEL_COLLISIONS = GameConfig.getBoolean("pixelCollisions", true);
+	private static final double HALF = 0.5;
+	private static final double[] NO_COORDINATES = new double[0];
+	private final String name;
+	private final String imagePath;
+	private final int imageHeight;
+	private final double imageWidth;
+	private final CollisionMask collisionMask;
+	private final int capacity;
+	private final double[] x;
+	private final double[] y;
+	private final double[] previousX;
+	private final double[] previousY;
+	private final double[] velocityX;
+	private final double[] velocityY;
+	private int size;
+	private double targetX;
+	private double targetY;
+	private long emitted;
+	private long retired;
+	private long hits;
+	private long dropped;
+
+	public BulletField(String name, String imageName, int imageHeight, int capacity) {
+		this.name = name;
+		this.imagePath = SpriteManifest.IMAGE_LOCATION + imageName;
+		this.imageHeight = imageHeight;
+		this.imageWidth = SpriteMetrics.getScaledWidth(imagePath, imageHeight);
+		this.collisionMask = CollisionMask.forSprite(imagePath, imageHeight);
+		this.capacity = capacity;
+		this.x = new double[capacity];
+		this.y = new double[capacity];
+		this.previousX = new double[capacity];
+		this.previousY = new double[capacity];
+		this.velocityX = new double[capacity];
+		this.velocityY = new double[capacity];
+	}
+
+	private BulletField(String name) {
+		this.name = name;
+		this.imagePath = null;
+		this.imageHeight = 0;
+		this.imageWidth = 0;
+		this.collisionMask = null;
+		this.capacity = 0;
+		this.x = NO_COORDINATES;
+		this.y = NO_COORDINATES;
+		this.previousX = NO_COORDINATES;
+		this.previousY = NO_COORDINATES;
+		this.velocityX = NO_COORDINATES;
+		this.velocityY = NO_COORDINATES;
+	}
+
+	public static BulletField empty(String name) {
+		return new BulletField(name);
+	}
+
+	public boolean spawn(double centerX, double centerY, double vx, double vy) {
+		if (size == capacity) {
+			dropped++;
+			return false;
+		}
+		int i = size++;
+		x[i] = centerX - imageWidth * HALF;
+		y[i] = centerY - imageHeight * HALF;
+		previousX[i] = x[i];
+		previousY[i] = y[i];
+		velocityX[i] = vx;
+		velocityY[i] = vy;
+		emitted++;
+		return true;
+	}
+
+	public void capturePreviousPositions() {
+		System.arraycopy(x, 0, previousX, 0, size);
+		System.arraycopy(y, 0, previousY, 0, size);
+	}
+
+	public void update(double deltaSeconds) {
+		for (int i = 0; i < size; i++) {
+			x[i] += velocityX[i] * deltaSeconds;
+			y[i] += velocityY[i] * deltaSeconds;
+		}
+	}
+
+	public int retireOutside(double minX, double minY, double maxX, double maxY) {
+		int removed = 0;
+		int i = 0;
+		while (i < size) {
+			if (x[i] + imageWidth < minX || x[i] > maxX || y[i] + imageHeight < minY || y[i] > maxY) {
+				remove(i);
+				removed++;
+			} else {
+				i++;
+			}
+		}
+		retired += removed;
+		return removed;
+	}
+
+	public int collide(ActiveActorDestructible target) {
+		double minX = target.getCachedMinX();
+		double minY = target.getCachedMinY();
+		double maxX = target.getCachedMaxX();
+		double maxY = target.getCachedMaxY();
+		int collided = 0;
+		int i = 0;
+		while (i < size) {
+			if (x[i] + imageWidth >= minX && y[i] + imageHeight >= minY && x[i] <= maxX && y[i] <= maxY
+					&& (!PIXEL_COLLISIONS || target.getCollisionMask().overlaps(collisionMask,
+							(int) Math.round(x[i] - minX), (int) Math.round(y[i] - minY)))) {
+				remove(i);
+				collided++;
+			} else {
+				i++;
+			}
+		}
+		hits += collided;
+		return collided;
+	}
+
+	private void remove(int i) {
+		int last = --size;
+		x[i] = x[last];
+		y[i] = y[last];
+		previousX[i] = previousX[last];
+		previousY[i] = previousY[last];
+		velocityX[i] = velocityX[last];
+		velocityY[i] = velocityY[last];
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	public void setTarget(double targetX, double targetY) {
+		this.targetX = targetX;
+		this.targetY = targetY;
+	}
+
+	public double getTargetX() {
+		return targetX;
+	}
+
+	public double getTargetY() {
+		return targetY;
+	}
+
+	public double getInterpolatedX(int i, double alpha) {
+		return previousX[i] + (x[i] - previousX[i]) * alpha;
+	}
+
+	public double getInterpolatedY(int i, double alpha) {
+		return previousY[i] + (y[i] - previousY[i]) * alpha;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getImagePath() {
+		return imagePath;
+	}
+
+	public int getImageHeight() {
+		return imageHeight;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	@Override
+	public String toString() {
+		return name + " [live=" + size + "/" + capacity + ", emitted=" + emitted + ", retired=" + retired + ", hits="
+				+ hits + ", dropped=" + dropped + "]";
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.example.demo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+public class CanvasActorRenderer implements ActorRenderer {
+
+	private final Canvas canvas;
+	private final GraphicsContext graphics;
+	private final Map<String, Sprite> sprites;
+
+	public CanvasActorRenderer(double width, double height) {
+		this.canvas = new Canvas(width, height);
+		this.graphics = canvas.getGraphicsContext2D();
+		this.sprites = new HashMap<>();
+		canvas.setMouseTransparent(true);
+	}
+
+	@Override
+	public Node getNode() {
+		return canvas;
+	}
+
+	@Override
+	public void sync(WorldSnapshot snapshot, double alpha) {
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		drawActors(snapshot, alpha);
+		drawBullets(snapshot, alpha);
+	}
+
+	@Override
+	public void dispose() {
+		graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+		sprites.clear();
+	}
+
+	private void drawActors(WorldSnapshot snapshot, double alpha) {
+		for (int i = 0; i < snapshot.getActorCount(); i++) {
+			Sprite sprite = getSprite(snapshot.getActor(i));
+			graphics.drawImage(sprite.image(), sprite.sourceX(), sprite.sourceY(), sprite.width(), sprite.height(),
+					snapshot.getActorX(i, alpha), snapshot.getActorY(i, alpha), sprite.width(), sprite.height());
+		}
+	}
+
+	private void drawBullets(WorldSnapshot snapshot, double alpha) {
+		if (snapshot.getBulletCount() == 0) {
+			return;
+		}
+		Sprite sprite = getSprite(snapshot.getBulletImagePath(), snapshot.getBulletImageHeight());
+		for (int i = 0; i < snapshot.getBulletCount(); i++) {
+			graphics.drawImage(sprite.image(), sprite.sourceX(), sprite.sourceY(), sprite.width(), sprite.height(),
+					snapshot.getBulletX(i, alpha), snapshot.getBulletY(i, alpha), sprite.width(), sprite.height());
+		}
+	}
+
+	private Sprite getSprite(ActiveActorDestructible actor) {
+		return getSprite(actor.getImagePath(), actor.getImageHeight());
+	}
+
+	private Sprite getSprite(String imagePath, int imageHeight) {
+		Sprite sprite = sprites.get(imagePath);
+		if (sprite == null) {
+			sprite = loadSprite(imagePath, imageHeight);
+			sprites.put(imagePath, sprite);
+		}
+		return sprite;
+	}
+
+	private static Sprite loadSprite(String imagePath, int imageHeight) {
+		SpriteAtlas.Region region = SpriteAtlas.find(imagePath, imageHeight);
+		if (region != null) {
+			return new Sprite(SpriteAtlas.getImage(), region.x(), region.y(), region.width(), region.height());
+		}
+		Image image = SpriteCache.getImage(imagePath, 0, imageHeight);
+		return new Sprite(image, 0, 0, image.getWidth(), image.getHeight());
+	}
+
+	private record Sprite(Image image, double sourceX, double sourceY, double width, double height) {
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CheckedBroadphase implements CollisionBroadphase {
+
+	private final CollisionBroadphase reference;
+	private final CollisionBroadphase candidate;
+	private final List<ActiveActorDestructible> referencePairs;
+	private final List<ActiveActorDestructible> candidatePairs;
+
+	public CheckedBroadphase(CollisionBroadphase reference, CollisionBroadphase candidate) {
+		this.reference = reference;
+		this.candidate = candidate;
+		this.referencePairs = new ArrayList<>();
+		this.candidatePairs = new ArrayList<>();
+	}
+
+	@Override
+	public void detectCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2,
+			CollisionHandler handler) {
+		referencePairs.clear();
+		candidatePairs.clear();
+		reference.detectCollisions(actors1, actors2, (actor, otherActor) -> record(referencePairs, actor, otherActor));
+		candidate.detectCollisions(actors1, actors2, (actor, otherActor) -> record(candidatePairs, actor, otherActor));
+		verifySamePairs();
+		for (int i = 0; i < referencePairs.size(); i += 2) {
+			handler.onCollision(referencePairs.get(i), referencePairs.get(i + 1));
+		}
+	}
+
+	private void record(List<ActiveActorDestructible> pairs, ActiveActorDestructible actor,
+			ActiveActorDestructible otherActor) {
+		pairs.add(actor);
+		pairs.add(otherActor);
+	}
+
+	private void verifySamePairs() {
+		if (referencePairs.size() != candidatePairs.size()) {
+			throw mismatch();
+		}
+		for (int i = 0; i < referencePairs.size(); i += 2) {
+			if (!containsPair(candidatePairs, referencePairs.get(i), referencePairs.get(i + 1))) {
+				throw mismatch();
+			}
+		}
+	}
+
+	private boolean containsPair(List<ActiveActorDestructible> pairs, ActiveActorDestructible actor,
+			ActiveActorDestructible otherActor) {
+		for (int i = 0; i < pairs.size(); i += 2) {
+			if (pairs.get(i) == actor && pairs.get(i + 1) == otherActor) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private IllegalStateException mismatch() {
+		return new IllegalStateException("Broadphase mismatch: reference found " + referencePairs.size() / 2
+				+ " pairs, candidate found " + candidatePairs.size() / 2);
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.example.demo;
+
+import java.util.List;
+
+public interface CollisionBroadphase {
+
+	String BRUTE_FORCE = "brute";
+	String SPATIAL_HASH = "hash";
+	String CHECKED = "checked";
+
+	void detectCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2,
+			CollisionHandler handler);
+
+	static CollisionBroadphase fromConfig() {
+		CollisionBroadphase broadphase = forName(GameConfig.getString("broadphase", SPATIAL_HASH));
+		return GameConfig.getBoolean("pixelCollisions", true) ? new MaskedBroadphase(broadphase) : broadphase;
+	}
+
+	static CollisionBroadphase forName(String name) {
+		switch (name) {
+			case BRUTE_FORCE:
+				return new BruteForceBroadphase();
+			case SPATIAL_HASH:
+				return new SpatialHashBroadphase();
+			case CHECKED:
+				return new CheckedBroadphase(new BruteForceBroadphase(), new SpatialHashBroadphase());
+			default:
+				throw new IllegalArgumentException("Unknown broadphase: " + name);
+		}
+	}
+
+}
@@ -0,0 +1,8 @@
+package com.example.demo;
+
+@FunctionalInterface
+public interface CollisionHandler {
+
+	void onCollision(ActiveActorDestructible actor, ActiveActorDestructible otherActor);
+
+}
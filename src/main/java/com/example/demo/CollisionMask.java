@@ -0,0 +1,284 @@
+package com.example.demo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.InflaterInputStream;
+
+public final class CollisionMask {
+
+	private static final int ALPHA_THRESHOLD = 64;
+	private static final int WORD_BITS = Long.SIZE;
+	private static final int WORD_SHIFT = 6;
+	private static final int BIT_INDEX_MASK = WORD_BITS - 1;
+	private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+	private static final int IHDR_CHUNK_TYPE = 0x49484452;
+	private static final int IDAT_CHUNK_TYPE = 0x49444154;
+	private static final int IEND_CHUNK_TYPE = 0x49454E44;
+	private static final int SUPPORTED_BIT_DEPTH = 8;
+	private static final int GREY = 0;
+	private static final int RGB = 2;
+	private static final int GREY_ALPHA = 4;
+	private static final int RGBA = 6;
+	private static final int OPAQUE = 0xFF;
+	private static final ConcurrentMap<MaskKey, CollisionMask> masks = new ConcurrentHashMap<>();
+
+	private final int width;
+	private final int height;
+	private final int wordsPerRow;
+	private final long[] bits;
+	private final int solidMinX;
+	private final int solidMinY;
+	private final int solidMaxX;
+	private final int solidMaxY;
+
+	private CollisionMask(int width, int height, long[] bits) {
+		this.width = width;
+		this.height = height;
+		this.wordsPerRow = wordsFor(width);
+		this.bits = bits;
+		int minX = width;
+		int minY = height;
+		int maxX = -1;
+		int maxY = -1;
+		for (int y = 0; y < height; y++) {
+			for (int word = 0; word < wordsPerRow; word++) {
+				long value = bits[y * wordsPerRow + word];
+				if (value != 0) {
+					minX = Math.min(minX, (word << WORD_SHIFT) + Long.numberOfTrailingZeros(value));
+					maxX = Math.max(maxX, (word << WORD_SHIFT) + BIT_INDEX_MASK - Long.numberOfLeadingZeros(value));
+					minY = Math.min(minY, y);
+					maxY = y;
+				}
+			}
+		}
+		this.solidMinX = minX;
+		this.solidMinY = minY;
+		this.solidMaxX = maxX;
+		this.solidMaxY = maxY;
+	}
+
+	public static CollisionMask forSprite(String resourcePath, int displayHeight) {
+		return masks.computeIfAbsent(new MaskKey(resourcePath, displayHeight), CollisionMask::build);
+	}
+
+	private static CollisionMask build(MaskKey key) {
+		AlphaPlane image = read(key.resourcePath());
+		int height = Math.max(1, key.displayHeight());
+		int width = Math.max(1, (int) Math.round(SpriteMetrics.getScaledWidth(key.resourcePath(), height)));
+		int wordsPerRow = wordsFor(width);
+		long[] bits = new long[wordsPerRow * height];
+		int sourceWidth = image.width();
+		int sourceHeight = image.height();
+		byte[] alpha = image.alpha();
+		for (int sourceY = 0; sourceY < sourceHeight; sourceY++) {
+			int row = (int) ((long) sourceY * height / sourceHeight) * wordsPerRow;
+			int rowStart = sourceY * sourceWidth;
+			for (int sourceX = 0; sourceX < sourceWidth; sourceX++) {
+				if ((alpha[rowStart + sourceX] & 0xFF) >= ALPHA_THRESHOLD) {
+					int x = (int) ((long) sourceX * width / sourceWidth);
+					bits[row + (x >>> WORD_SHIFT)] |= 1L << (x & BIT_INDEX_MASK);
+				}
+			}
+		}
+		return new CollisionMask(width, height, bits);
+	}
+
+	private static AlphaPlane read(String resourcePath) {
+		try (InputStream stream = CollisionMask.class.getResourceAsStream(resourcePath)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Missing sprite resource: " + resourcePath);
+			}
+			DataInputStream data = new DataInputStream(stream);
+			if (data.readLong() != PNG_SIGNATURE) {
+				throw new IllegalArgumentException("Sprite is not a PNG: " + resourcePath);
+			}
+			int width = 0;
+			int height = 0;
+			int colorType = -1;
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+			while (true) {
+				int length = data.readInt();
+				int type = data.readInt();
+				if (type == IHDR_CHUNK_TYPE) {
+					width = data.readInt();
+					height = data.readInt();
+					int bitDepth = data.readUnsignedByte();
+					colorType = data.readUnsignedByte();
+					data.readUnsignedByte();
+					data.readUnsignedByte();
+					int interlace = data.readUnsignedByte();
+					if (bitDepth != SUPPORTED_BIT_DEPTH || interlace != 0 || channels(colorType) == 0) {
+						throw new IllegalArgumentException("Unsupported PNG layout for a collision mask: " + resourcePath);
+					}
+				} else if (type == IDAT_CHUNK_TYPE) {
+					compressed.write(data.readNBytes(length));
+				} else if (type == IEND_CHUNK_TYPE) {
+					break;
+				} else {
+					data.skipNBytes(length);
+				}
+				data.readInt();
+			}
+			if (colorType < 0) {
+				throw new IllegalArgumentException("Sprite has no IHDR header: " + resourcePath);
+			}
+			return new AlphaPlane(width, height, inflateAlpha(compressed.toByteArray(), width, height, colorType));
+		} catch (EOFException e) {
+			throw new IllegalArgumentException("Truncated sprite: " + resourcePath, e);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static byte[] inflateAlpha(byte[] compressed, int width, int height, int colorType) throws IOException {
+		int channels = channels(colorType);
+		int alphaChannel = colorType == GREY_ALPHA || colorType == RGBA ? channels - 1 : -1;
+		int stride = width * channels;
+		byte[] previous = new byte[stride];
+		byte[] current = new byte[stride];
+		byte[] alpha = new byte[width * height];
+		try (DataInputStream pixels = new DataInputStream(
+				new InflaterInputStream(new ByteArrayInputStream(compressed)))) {
+			for (int y = 0; y < height; y++) {
+				int filter = pixels.readUnsignedByte();
+				pixels.readFully(current);
+				unfilter(filter, current, previous, channels);
+				int rowStart = y * width;
+				for (int x = 0; x < width; x++) {
+					alpha[rowStart + x] = alphaChannel < 0 ? (byte) OPAQUE : current[x * channels + alphaChannel];
+				}
+				byte[] swap = previous;
+				previous = current;
+				current = swap;
+			}
+		}
+		return alpha;
+	}
+
+	private static void unfilter(int filter, byte[] row, byte[] previous, int bytesPerPixel) {
+		for (int i = 0; i < row.length; i++) {
+			int left = i >= bytesPerPixel ? row[i - bytesPerPixel] & 0xFF : 0;
+			int up = previous[i] & 0xFF;
+			int upLeft = i >= bytesPerPixel ? previous[i - bytesPerPixel] & 0xFF : 0;
+			int predictor;
+			switch (filter) {
+				case 0:
+					predictor = 0;
+					break;
+				case 1:
+					predictor = left;
+					break;
+				case 2:
+					predictor = up;
+					break;
+				case 3:
+					predictor = (left + up) >>> 1;
+					break;
+				case 4:
+					predictor = paeth(left, up, upLeft);
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown PNG filter type: " + filter);
+			}
+			row[i] = (byte) (row[i] + predictor);
+		}
+	}
+
+	private static int paeth(int left, int up, int upLeft) {
+		int estimate = left + up - upLeft;
+		int distanceLeft = Math.abs(estimate - left);
+		int distanceUp = Math.abs(estimate - up);
+		int distanceUpLeft = Math.abs(estimate - upLeft);
+		if (distanceLeft <= distanceUp && distanceLeft <= distanceUpLeft) {
+			return left;
+		}
+		return distanceUp <= distanceUpLeft ? up : upLeft;
+	}
+
+	private static int channels(int colorType) {
+		switch (colorType) {
+			case GREY:
+				return 1;
+			case RGB:
+				return 3;
+			case GREY_ALPHA:
+				return 2;
+			case RGBA:
+				return 4;
+			default:
+				return 0;
+		}
+	}
+
+	public boolean overlaps(CollisionMask other, int offsetX, int offsetY) {
+		int startX = Math.max(solidMinX, offsetX + other.solidMinX);
+		int endX = Math.min(solidMaxX, offsetX + other.solidMaxX) + 1;
+		int startY = Math.max(solidMinY, offsetY + other.solidMinY);
+		int endY = Math.min(solidMaxY, offsetY + other.solidMaxY) + 1;
+		if (startX >= endX || startY >= endY) {
+			return false;
+		}
+		int firstWord = startX >>> WORD_SHIFT;
+		int lastWord = (endX - 1) >>> WORD_SHIFT;
+		for (int y = startY; y < endY; y++) {
+			int row = y * wordsPerRow;
+			int otherRow = (y - offsetY) * other.wordsPerRow;
+			for (int word = firstWord; word <= lastWord; word++) {
+				long own = bits[row + word];
+				if (own != 0 && (own & other.window(otherRow, (word << WORD_SHIFT) - offsetX)) != 0) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private long window(int row, int startColumn) {
+		if (startColumn <= -WORD_BITS || startColumn >= width) {
+			return 0;
+		}
+		if (startColumn < 0) {
+			return bits[row] << -startColumn;
+		}
+		int word = startColumn >>> WORD_SHIFT;
+		int shift = startColumn & BIT_INDEX_MASK;
+		long window = bits[row + word] >>> shift;
+		if (shift != 0 && word + 1 < wordsPerRow) {
+			window |= bits[row + word + 1] << (WORD_BITS - shift);
+		}
+		return window;
+	}
+
+	boolean isSolid(int x, int y) {
+		if (x < 0 || y < 0 || x >= width || y >= height) {
+			return false;
+		}
+		return (bits[y * wordsPerRow + (x >>> WORD_SHIFT)] & (1L << (x & BIT_INDEX_MASK))) != 0;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	private static int wordsFor(int width) {
+		return (width + BIT_INDEX_MASK) >>> WORD_SHIFT;
+	}
+
+	private record MaskKey(String resourcePath, int displayHeight) {
+	}
+
+	private record AlphaPlane(int width, int height, byte[] alpha) {
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.example.demo;
+
+public final class DamageEvent implements GameEvent {
+
+	private FighterPlane plane;
+	private int health;
+
+	DamageEvent set(FighterPlane plane, int health) {
+		this.plane = plane;
+		this.health = health;
+		return this;
+	}
+
+	@Override
+	public DamageEvent copy() {
+		return new DamageEvent().set(plane, health);
+	}
+
+	public FighterPlane getPlane() {
+		return plane;
+	}
+
+	public int getHealth() {
+		return health;
+	}
+
+}
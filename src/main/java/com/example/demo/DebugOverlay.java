@@ -0,0 +1,92 @@
+package com.example.demo;
+
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+public class DebugOverlay {
+
+	private static final double X_POSITION = 10;
+	private static final double Y_POSITION = 150;
+	private static final int FONT_SIZE = 13;
+	private static final long REFRESH_INTERVAL_NANOS = 500_000_000L;
+	private static final double NANOS_PER_MICROSECOND = 1e3;
+	private static final double P50 = 50;
+	private static final double P99 = 99;
+	private final Text text;
+	private final StringBuilder builder;
+	private long lastRefresh;
+
+	public DebugOverlay() {
+		this.text = new Text(X_POSITION, Y_POSITION, "");
+		this.text.setFont(Font.font("Monospaced", FONT_SIZE));
+		this.text.setFill(Color.YELLOW);
+		this.text.setVisible(false);
+		this.builder = new StringBuilder();
+	}
+
+	public Text getText() {
+		return text;
+	}
+
+	public void toggle() {
+		text.setVisible(!text.isVisible());
+		lastRefresh = 0;
+	}
+
+	public void update(LevelParent level, WorldSnapshot snapshot, FrameDriver frameDriver,
+			LatencyHistogram renderTimes) {
+		if (!text.isVisible()) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (now - lastRefresh < REFRESH_INTERVAL_NANOS) {
+			return;
+		}
+		lastRefresh = now;
+		ProfileWindow profile = snapshot.getProfile();
+		builder.setLength(0);
+		builder.append(String.format(
+				"tick %d @ %d Hz  actors %d (max %d)  dropped steps %d  dropped inputs %d  simulation %s%n",
+				snapshot.getTick(), level.getTickRate(), snapshot.getTotalCount(), profile.getMaxActorCount(),
+				frameDriver.getDroppedSteps(), level.getInputQueue().getDropped(),
+				frameDriver.isThreaded() ? FrameDriver.THREAD : FrameDriver.FX));
+		if (FrameProfiler.ENABLED) {
+			builder.append(String.format("%-16s %9s %9s %9s%n", "phase (us)", "p50", "p99", "max"));
+			for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+				builder.append(String.format("%-16s %9.1f %9.1f %9.1f%n", phase, micros(profile.getP50(phase)),
+						micros(profile.getP99(phase)), micros(profile.getMax(phase))));
+			}
+			builder.append(String.format("%-16s %9.1f %9.1f %9.1f%n", "RENDER", micros(renderTimes.getPercentile(P50)),
+					micros(renderTimes.getPercentile(P99)), micros(renderTimes.getMax())));
+			renderTimes.reset();
+		} else {
+			builder.append(String.format("phase timings off (-Dskybattle.profile=true)%n"));
+		}
+		builder.append(String.format(
+				"sprites %d decoded, %d hits, %d misses, %d evicted, %d/%d KiB reachable (cached %d, peak %d)%n",
+				SpriteCache.size(), SpriteCache.getHits(), SpriteCache.getMisses(), SpriteCache.getEvictions(),
+				SpriteCache.getBytes() / 1024, SpriteCache.getBudgetBytes() / 1024,
+				SpriteCache.getRetainedBytes() / 1024, SpriteCache.getPeakBytes() / 1024));
+		for (SpriteCache.AssetUsage usage : SpriteCache.getUsage()) {
+			builder.append(usage).append(System.lineSeparator());
+		}
+		if (frameDriver.isThreaded()) {
+			builder.append(String.format("actor lists are owned by the simulation thread%n"));
+		} else {
+			for (ActorLifecycleManager.TypeCounts counts : level.getActorTypeCounts()) {
+				builder.append(counts).append(System.lineSeparator());
+			}
+			for (ActorPool<?> pool : level.getPools().getAll()) {
+				builder.append(pool).append(System.lineSeparator());
+			}
+			builder.append(level.getPools().getBossBullets()).append(System.lineSeparator());
+		}
+		text.setText(builder.toString());
+	}
+
+	private static double micros(long nanos) {
+		return nanos / NANOS_PER_MICROSECOND;
+	}
+
+}
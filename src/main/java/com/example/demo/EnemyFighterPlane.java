@@ -0,0 +1,12 @@
+package com.example.demo;
+
+public abstract class EnemyFighterPlane extends FighterPlane {
+
+	public EnemyFighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health,
+			GameRandom random) {
+		super(imageName, imageHeight, initialXPos, initialYPos, health, random);
+	}
+
+	public abstract ActiveActorDestructible fireProjectile(ActorPools pools, double deltaSeconds);
+
+}
@@ -1,37 +1,37 @@
 package com.example.demo;
 
-public class EnemyPlane extends FighterPlane {
+public class EnemyPlane extends EnemyFighterPlane {
 
 	private static final String IMAGE_NAME = "enemyplane.png";
-	private static final int IMAGE_HEIGHT = 150;
-	private static final int HORIZONTAL_VELOCITY = -6;
+	private static final int IMAGE_HEIGHT = SpriteManifest.getImageHeight(IMAGE_NAME);
+	private static final double HORIZONTAL_VELOCITY = -120;
 	private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
 	private static final int INITIAL_HEALTH = 1;
-	private static final double FIRE_RATE = .01;
+	private static final double FIRE_RATE = GameConfig.getDouble("enemyFireRate", .2);
 
-	public EnemyPlane(double initialXPos, double initialYPos) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH);
+	public EnemyPlane(double initialXPos, double initialYPos, GameRandom random) {
+		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos, INITIAL_HEALTH, random);
 	}
 
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double deltaSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * deltaSeconds);
 	}
 
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		if (Math.random() < FIRE_RATE) {
+	public ActiveActorDestructible fireProjectile(ActorPools pools, double deltaSeconds) {
+		if (getRandom().chance(FIRE_RATE * deltaSeconds)) {
 			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
 			double projectileYPostion = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
-			return new EnemyProjectile(projectileXPosition, projectileYPostion);
+			return pools.getEnemyProjectiles().acquire(projectileXPosition, projectileYPostion);
 		}
 		return null;
 	}
 
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
 	}
 
 }
@@ -3,21 +3,21 @@ package com.example.demo;
 public class EnemyProjectile extends Projectile {
 	
 	private static final String IMAGE_NAME = "enemyFire.png";
-	private static final int IMAGE_HEIGHT = 50;
-	private static final int HORIZONTAL_VELOCITY = -10;
+	private static final int IMAGE_HEIGHT = SpriteManifest.getImageHeight(IMAGE_NAME);
+	private static final double HORIZONTAL_VELOCITY = -200;
 
 	public EnemyProjectile(double initialXPos, double initialYPos) {
 		super(IMAGE_NAME, IMAGE_HEIGHT, initialXPos, initialYPos);
 	}
 
 	@Override
-	public void updatePosition() {
-		moveHorizontally(HORIZONTAL_VELOCITY);
+	public void updatePosition(double deltaSeconds) {
+		moveHorizontally(HORIZONTAL_VELOCITY * deltaSeconds);
 	}
 
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
 	}
 
 
@@ -2,14 +2,23 @@ package com.example.demo;
 
 public abstract class FighterPlane extends ActiveActorDestructible {
 
+	private final int initialHealth;
+	private final GameRandom random;
 	private int health;
 
-	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
+	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health,
+			GameRandom random) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
+		this.initialHealth = health;
 		this.health = health;
+		this.random = random;
 	}
 
-	public abstract ActiveActorDestructible fireProjectile();
+	@Override
+	public void reset(double xPos, double yPos) {
+		super.reset(xPos, yPos);
+		health = initialHealth;
+	}
 	
 	@Override
 	public void takeDamage() {
@@ -19,6 +28,10 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 		}
 	}
 
+	public void reseedRandom(long seed) {
+		random.reseed(seed);
+	}
+
 	protected double getProjectileXPosition(double xPositionOffset) {
 		return getLayoutX() + getTranslateX() + xPositionOffset;
 	}
@@ -27,6 +40,10 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 		return getLayoutY() + getTranslateY() + yPositionOffset;
 	}
 
+	protected GameRandom getRandom() {
+		return random;
+	}
+
 	private boolean healthAtZero() {
 		return health == 0;
 	}
@@ -34,5 +51,9 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	public int getHealth() {
 		return health;
 	}
+
+	public int getInitialHealth() {
+		return initialHealth;
+	}
 		
 }
@@ -0,0 +1,46 @@
+package com.example.demo;
+
+import java.util.concurrent.Executor;
+
+public interface FrameDriver {
+
+	String FX = "fx";
+	String THREAD = "thread";
+
+	void start();
+
+	void stop();
+
+	boolean isRunning();
+
+	long getDroppedSteps();
+
+	Executor getListenerExecutor();
+
+	boolean isThreaded();
+
+	static FrameDriver fromConfig(LevelParent level, int maxStepsPerFrame, FrameListener listener) {
+		return forName(GameConfig.getString("simulation", FX), level, maxStepsPerFrame, listener);
+	}
+
+	static FrameDriver forName(String name, LevelParent level, int maxStepsPerFrame, FrameListener listener) {
+		switch (name) {
+			case FX:
+				WorldSnapshot snapshot = new WorldSnapshot();
+				return new GameLoop(level.getTickRate(), maxStepsPerFrame, level::tick,
+						alpha -> listener.render(snapshot.capture(level, System.nanoTime()), alpha));
+			case THREAD:
+				return new ThreadedGameLoop(level, maxStepsPerFrame, listener);
+			default:
+				throw new IllegalArgumentException("Unknown simulation mode: " + name);
+		}
+	}
+
+	@FunctionalInterface
+	interface FrameListener {
+
+		void render(WorldSnapshot snapshot, double alpha);
+
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.example.demo;
+
+public class FrameProfiler {
+
+	public static final boolean ENABLED = GameConfig.getBoolean("profile", false);
+
+	public enum Phase {
+		SPAWN, UPDATE, ENEMY_FIRE, COLLISIONS, CLEANUP, GAME_OVER_CHECK, TICK
+	}
+
+	private static final Phase[] PHASES = Phase.values();
+	private static final long WINDOW_NANOS = 500_000_000L;
+	private final String levelName;
+	private final LatencyHistogram[] histograms;
+	private final long[] lastNanos;
+	private final ProfileWindow window;
+	private int maxActorCount;
+	private long windowStart;
+	private long windowTicks;
+
+	public FrameProfiler(String levelName) {
+		this.levelName = levelName;
+		this.histograms = new LatencyHistogram[PHASES.length];
+		this.lastNanos = new long[PHASES.length];
+		for (int i = 0; i < PHASES.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+		this.window = new ProfileWindow();
+	}
+
+	public long start() {
+		return ENABLED ? System.nanoTime() : 0;
+	}
+
+	public long lap(Phase phase, long startNanos) {
+		if (!ENABLED) {
+			return 0;
+		}
+		long now = System.nanoTime();
+		record(phase, now - startNanos);
+		return now;
+	}
+
+	public void endTick(long tickStartNanos, long tick, int actorCount) {
+		if (!ENABLED) {
+			return;
+		}
+		long now = lap(Phase.TICK, tickStartNanos);
+		maxActorCount = Math.max(maxActorCount, actorCount);
+		windowTicks++;
+		if (now - windowStart >= WINDOW_NANOS) {
+			rollWindow(now, actorCount);
+		}
+		TickProfileEvent event = new TickProfileEvent();
+		if (event.shouldCommit()) {
+			event.level = levelName;
+			event.tick = tick;
+			event.actorCount = actorCount;
+			event.spawnNanos = lastNanos[Phase.SPAWN.ordinal()];
+			event.updateNanos = lastNanos[Phase.UPDATE.ordinal()];
+			event.enemyFireNanos = lastNanos[Phase.ENEMY_FIRE.ordinal()];
+			event.collisionNanos = lastNanos[Phase.COLLISIONS.ordinal()];
+			event.cleanupNanos = lastNanos[Phase.CLEANUP.ordinal()];
+			event.gameOverCheckNanos = lastNanos[Phase.GAME_OVER_CHECK.ordinal()];
+			event.tickNanos = lastNanos[Phase.TICK.ordinal()];
+			event.commit();
+		}
+	}
+
+	void copyWindowTo(ProfileWindow target) {
+		target.copyFrom(window);
+	}
+
+	private void rollWindow(long now, int actorCount) {
+		for (Phase phase : PHASES) {
+			window.record(phase, histograms[phase.ordinal()]);
+			histograms[phase.ordinal()].reset();
+		}
+		window.finish(maxActorCount, windowTicks);
+		maxActorCount = actorCount;
+		windowTicks = 0;
+		windowStart = now;
+	}
+
+	private void record(Phase phase, long nanos) {
+		histograms[phase.ordinal()].record(nanos);
+		lastNanos[phase.ordinal()] = nanos;
+	}
+
+}
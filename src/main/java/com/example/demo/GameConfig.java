@@ -0,0 +1,34 @@
+package com.example.demo;
+
+public final class GameConfig {
+
+	private static final String PREFIX = "skybattle.";
+
+	private GameConfig() {
+	}
+
+	public static String getString(String key, String defaultValue) {
+		return System.getProperty(PREFIX + key, defaultValue);
+	}
+
+	public static int getInt(String key, int defaultValue) {
+		String value = System.getProperty(PREFIX + key);
+		return value == null ? defaultValue : Integer.parseInt(value.trim());
+	}
+
+	public static long getLong(String key, long defaultValue) {
+		String value = System.getProperty(PREFIX + key);
+		return value == null ? defaultValue : Long.parseLong(value.trim());
+	}
+
+	public static double getDouble(String key, double defaultValue) {
+		String value = System.getProperty(PREFIX + key);
+		return value == null ? defaultValue : Double.parseDouble(value.trim());
+	}
+
+	public static boolean getBoolean(String key, boolean defaultValue) {
+		String value = System.getProperty(PREFIX + key);
+		return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+	}
+
+}
@@ -0,0 +1,7 @@
+package com.example.demo;
+
+public interface GameEvent {
+
+	GameEvent copy();
+
+}
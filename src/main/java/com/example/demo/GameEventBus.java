@@ -0,0 +1,67 @@
+package com.example.demo;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+public class GameEventBus {
+
+	public static final Executor DIRECT = Runnable::run;
+	private static final GameEventListener<?>[] NO_LISTENERS = new GameEventListener<?>[0];
+	private final Map<Class<? extends GameEvent>, GameEventListener<?>[]> listeners;
+
+	public GameEventBus() {
+		this.listeners = new HashMap<>();
+	}
+
+	public <E extends GameEvent> void subscribe(Class<E> type, GameEventListener<? super E> listener) {
+		GameEventListener<?>[] current = listeners.getOrDefault(type, NO_LISTENERS);
+		GameEventListener<?>[] updated = Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = listener;
+		listeners.put(type, updated);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <E extends GameEvent> GameEventListener<E> subscribe(Class<E> type, GameEventListener<? super E> listener,
+			Executor executor) {
+		GameEventListener<E> delivered = executor == DIRECT ? listener::onEvent : event -> {
+			E copy = (E) event.copy();
+			executor.execute(() -> listener.onEvent(copy));
+		};
+		subscribe(type, delivered);
+		return delivered;
+	}
+
+	public <E extends GameEvent> void unsubscribe(Class<E> type, GameEventListener<? super E> listener) {
+		GameEventListener<?>[] current = listeners.get(type);
+		if (current == null) {
+			return;
+		}
+		for (int i = 0; i < current.length; i++) {
+			if (current[i] == listener) {
+				GameEventListener<?>[] updated = new GameEventListener<?>[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, i);
+				System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+				listeners.put(type, updated);
+				return;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public <E extends GameEvent> void publish(E event) {
+		GameEventListener<?>[] current = listeners.get(event.getClass());
+		if (current == null) {
+			return;
+		}
+		for (GameEventListener<?> listener : current) {
+			((GameEventListener<E>) listener).onEvent(event);
+		}
+	}
+
+	public void clear() {
+		listeners.clear();
+	}
+
+}
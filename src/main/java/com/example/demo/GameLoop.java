@@ -0,0 +1,85 @@
+package com.example.demo;
+
+import java.util.concurrent.Executor;
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.AnimationTimer;
+
+public class GameLoop extends AnimationTimer implements FrameDriver {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	private static final long NOT_STARTED = -1;
+	private final long stepNanos;
+	private final int maxStepsPerFrame;
+	private final Runnable step;
+	private final DoubleConsumer render;
+	private long previousFrameTime;
+	private long accumulatedNanos;
+	private long droppedSteps;
+	private boolean running;
+
+	public GameLoop(int tickRate, int maxStepsPerFrame, Runnable step, DoubleConsumer render) {
+		this.stepNanos = NANOS_PER_SECOND / tickRate;
+		this.maxStepsPerFrame = maxStepsPerFrame;
+		this.step = step;
+		this.render = render;
+		this.previousFrameTime = NOT_STARTED;
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		super.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		previousFrameTime = NOT_STARTED;
+		accumulatedNanos = 0;
+		super.stop();
+	}
+
+	@Override
+	public void handle(long now) {
+		if (previousFrameTime == NOT_STARTED) {
+			previousFrameTime = now;
+			render.accept(0);
+			return;
+		}
+		accumulatedNanos += now - previousFrameTime;
+		previousFrameTime = now;
+		int steps = 0;
+		while (running && accumulatedNanos >= stepNanos && steps < maxStepsPerFrame) {
+			step.run();
+			accumulatedNanos -= stepNanos;
+			steps++;
+		}
+		if (accumulatedNanos >= stepNanos) {
+			droppedSteps += accumulatedNanos / stepNanos;
+			accumulatedNanos %= stepNanos;
+		}
+		render.accept((double) accumulatedNanos / stepNanos);
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public long getDroppedSteps() {
+		return droppedSteps;
+	}
+
+	@Override
+	public Executor getListenerExecutor() {
+		return GameEventBus.DIRECT;
+	}
+
+	@Override
+	public boolean isThreaded() {
+		return false;
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.example.demo;
+
+import java.util.SplittableRandom;
+
+public class GameRandom {
+
+	private long seed;
+	private SplittableRandom random;
+
+	public GameRandom(long seed) {
+		this.seed = seed;
+		this.random = new SplittableRandom(seed);
+	}
+
+	public static long configuredSeed() {
+		return GameConfig.getLong("seed", new SplittableRandom().nextLong());
+	}
+
+	public void reseed(long seed) {
+		this.seed = seed;
+		this.random = new SplittableRandom(seed);
+	}
+
+	public long nextLong() {
+		return random.nextLong();
+	}
+
+	public GameRandom split() {
+		return new GameRandom(random.nextLong());
+	}
+
+	public double nextDouble() {
+		return random.nextDouble();
+	}
+
+	public double nextDouble(double bound) {
+		return random.nextDouble(bound);
+	}
+
+	public boolean chance(double probability) {
+		return random.nextDouble() < probability;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+}
@@ -1,23 +1,24 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
 public class HeartDisplay {
 	
 	private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
-	private static final int HEART_HEIGHT = 50;
-	private static final int INDEX_OF_FIRST_ITEM = 0;
+	private static final int HEART_HEIGHT = SpriteManifest.getHeight(HEART_IMAGE_NAME);
+	private static final SpriteCache.Request HEART_SPRITE = SpriteCache.Request.ofHeight(HEART_IMAGE_NAME, HEART_HEIGHT);
 	private HBox container;
 	private double containerXPosition;
 	private double containerYPosition;
 	private int numberOfHeartsToDisplay;
+	private int numberOfHeartsShown;
 	
 	public HeartDisplay(double xPosition, double yPosition, int heartsToDisplay) {
 		this.containerXPosition = xPosition;
 		this.containerYPosition = yPosition;
 		this.numberOfHeartsToDisplay = heartsToDisplay;
+		this.numberOfHeartsShown = heartsToDisplay;
 		initializeContainer();
 		initializeHearts();
 	}
@@ -30,7 +31,8 @@ public class HeartDisplay {
 	
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(getClass().getResource(HEART_IMAGE_NAME).toExternalForm()));
+			ImageView heart = new ImageView();
+			SpriteAtlas.show(heart, HEART_SPRITE);
 
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
@@ -38,9 +40,15 @@ public class HeartDisplay {
 		}
 	}
 	
-	public void removeHeart() {
-		if (!container.getChildren().isEmpty())
-			container.getChildren().remove(INDEX_OF_FIRST_ITEM);
+	public void showHearts(int heartsRemaining) {
+		int hearts = Math.max(0, Math.min(heartsRemaining, numberOfHeartsToDisplay));
+		if (hearts == numberOfHeartsShown) {
+			return;
+		}
+		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
+			container.getChildren().get(i).setVisible(i < hearts);
+		}
+		numberOfHeartsShown = hearts;
 	}
 	
 	public HBox getContainer() {
@@ -0,0 +1,64 @@
+package com.example.demo;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class InputQueue {
+
+	private static final int CAPACITY = 256;
+	private static final int INDEX_MASK = CAPACITY - 1;
+	private static final int RELEASE_FLAG = 1 << 30;
+	private final int[] commands;
+	private final AtomicLong head;
+	private final AtomicLong tail;
+	private long dropped;
+
+	public InputQueue() {
+		this.commands = new int[CAPACITY];
+		this.head = new AtomicLong();
+		this.tail = new AtomicLong();
+	}
+
+	public boolean press(int keys) {
+		return offer(keys);
+	}
+
+	public boolean release(int keys) {
+		return offer(keys | RELEASE_FLAG);
+	}
+
+	private boolean offer(int command) {
+		long position = tail.get();
+		if (position - head.get() == CAPACITY) {
+			dropped++;
+			return false;
+		}
+		commands[(int) position & INDEX_MASK] = command;
+		tail.lazySet(position + 1);
+		return true;
+	}
+
+	public int drainTo(InputState inputState) {
+		long position = head.get();
+		long end = tail.get();
+		int drained = (int) (end - position);
+		for (; position < end; position++) {
+			int command = commands[(int) position & INDEX_MASK];
+			if ((command & RELEASE_FLAG) != 0) {
+				inputState.release(command & ~RELEASE_FLAG);
+			} else {
+				inputState.press(command);
+			}
+		}
+		head.lazySet(end);
+		return drained;
+	}
+
+	public void clear() {
+		head.set(tail.get());
+	}
+
+	public long getDropped() {
+		return dropped;
+	}
+
+}
@@ -0,0 +1,99 @@
+package com.example.demo;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class InputRecorder implements Closeable {
+
+	static final int MAGIC = 0x534B5952;
+	static final int VERSION = 3;
+	static final int END_OPCODE = 0xFF;
+
+	private final Path path;
+	private final DataOutputStream out;
+	private long lastTick;
+	private long eventCount;
+	private boolean closed;
+
+	public InputRecorder(Path path, String levelClassName, long seed) throws IOException {
+		this.path = path;
+		this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		out.writeLong(seed);
+		out.writeUTF(levelClassName);
+	}
+
+	public static InputRecorder forLevel(Path directory, LevelParent level) throws IOException {
+		Files.createDirectories(directory);
+		String fileName = level.getClass().getSimpleName() + "-" + System.currentTimeMillis() + ".skyrec";
+		return new InputRecorder(directory.resolve(fileName), level.getClass().getName(),
+				level.getRandom().getSeed());
+	}
+
+	public void record(long tick, int keys) {
+		write(tick, keys);
+		eventCount++;
+	}
+
+	public void flush() {
+		try {
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void finish(long finalTick) {
+		if (closed) {
+			return;
+		}
+		write(finalTick, END_OPCODE);
+		close();
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			out.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void write(long tick, int opcode) {
+		try {
+			writeVarLong(tick - lastTick);
+			out.writeByte(opcode);
+			lastTick = tick;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeVarLong(long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	public Path getPath() {
+		return path;
+	}
+
+	public long getEventCount() {
+		return eventCount;
+	}
+
+}
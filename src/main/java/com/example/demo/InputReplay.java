@@ -0,0 +1,92 @@
+package com.example.demo;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class InputReplay implements Closeable {
+
+	private final DataInputStream in;
+	private final long seed;
+	private final String levelClassName;
+	private long nextTick;
+	private int nextOpcode;
+	private long eventCount;
+	private boolean finished;
+
+	public InputReplay(Path path) throws IOException {
+		this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+		if (in.readInt() != InputRecorder.MAGIC) {
+			in.close();
+			throw new IOException("Not an input recording: " + path);
+		}
+		int version = in.readUnsignedByte();
+		if (version != InputRecorder.VERSION) {
+			in.close();
+			throw new IOException("Unsupported recording version " + version + ": " + path);
+		}
+		this.seed = in.readLong();
+		this.levelClassName = in.readUTF();
+		readNext();
+	}
+
+	public void applyDueInputs(LevelParent level) throws IOException {
+		long tick = level.getTickCount() + 1;
+		while (!finished && nextTick == tick) {
+			if (nextOpcode == InputRecorder.END_OPCODE) {
+				finished = true;
+				return;
+			}
+			level.getInputState().replace(nextOpcode);
+			eventCount++;
+			readNext();
+		}
+	}
+
+	private void readNext() throws IOException {
+		try {
+			nextTick += readVarLong();
+			nextOpcode = in.readUnsignedByte();
+		} catch (EOFException e) {
+			finished = true;
+		}
+	}
+
+	private long readVarLong() throws IOException {
+		long value = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return value;
+	}
+
+	public boolean isFinished() {
+		return finished;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public String getLevelClassName() {
+		return levelClassName;
+	}
+
+	public long getEventCount() {
+		return eventCount;
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+}
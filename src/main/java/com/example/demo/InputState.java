@@ -0,0 +1,40 @@
+package com.example.demo;
+
+public class InputState {
+
+	public static final int UP = 1;
+	public static final int DOWN = 1 << 1;
+	public static final int FIRE = 1 << 2;
+	private int held;
+	private int pressedSinceSample;
+
+	public void press(int keys) {
+		held |= keys;
+		pressedSinceSample |= keys;
+	}
+
+	public void release(int keys) {
+		held &= ~keys;
+	}
+
+	public void replace(int keys) {
+		held = keys;
+		pressedSinceSample = 0;
+	}
+
+	public int sample() {
+		int keys = held | pressedSinceSample;
+		pressedSinceSample = 0;
+		return keys;
+	}
+
+	public void clear() {
+		held = 0;
+		pressedSinceSample = 0;
+	}
+
+	public static boolean isHeld(int keys, int key) {
+		return (keys & key) != 0;
+	}
+
+}
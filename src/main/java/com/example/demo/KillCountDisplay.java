@@ -0,0 +1,38 @@
+package com.example.demo;
+
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+public class KillCountDisplay {
+
+	private static final String LABEL = "Kills: ";
+	private static final int FONT_SIZE = 24;
+	private static final int NOT_SHOWN = -1;
+	private final Text text;
+	private int killsShown;
+
+	public KillCountDisplay(double xPosition, double yPosition) {
+		this.text = new Text();
+		this.text.setLayoutX(xPosition);
+		this.text.setLayoutY(yPosition);
+		this.text.setFont(Font.font(null, FontWeight.BOLD, FONT_SIZE));
+		this.text.setFill(Color.WHITE);
+		this.killsShown = NOT_SHOWN;
+		showKills(0);
+	}
+
+	public void showKills(int kills) {
+		if (kills == killsShown) {
+			return;
+		}
+		text.setText(LABEL + kills);
+		killsShown = kills;
+	}
+
+	public Text getText() {
+		return text;
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.example.demo;
+
+public final class KillEvent implements GameEvent {
+
+	private int newKills;
+	private int totalKills;
+
+	KillEvent set(int newKills, int totalKills) {
+		this.newKills = newKills;
+		this.totalKills = totalKills;
+		return this;
+	}
+
+	@Override
+	public KillEvent copy() {
+		return new KillEvent().set(newKills, totalKills);
+	}
+
+	public int getNewKills() {
+		return newKills;
+	}
+
+	public int getTotalKills() {
+		return totalKills;
+	}
+
+}
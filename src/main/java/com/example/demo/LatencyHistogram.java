@@ -0,0 +1,74 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = Long.SIZE * SUB_BUCKETS;
+	private final long[] counts;
+	private long totalCount;
+	private long maxValue;
+
+	public LatencyHistogram() {
+		this.counts = new long[BUCKET_COUNT];
+	}
+
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts[bucketIndex(value)]++;
+		totalCount++;
+		if (value > maxValue) {
+			maxValue = value;
+		}
+	}
+
+	public long getPercentile(double percentile) {
+		if (totalCount == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return Math.min(maxValue, bucketLowerBound(i + 1) - 1);
+			}
+		}
+		return maxValue;
+	}
+
+	public long getMax() {
+		return maxValue;
+	}
+
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	public void reset() {
+		Arrays.fill(counts, 0);
+		totalCount = 0;
+		maxValue = 0;
+	}
+
+	private static int bucketIndex(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long bucketLowerBound(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		int subBucket = index % SUB_BUCKETS;
+		return (long) (SUB_BUCKETS + subBucket) << shift;
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.example.demo;
+
+public final class LevelEndEvent implements GameEvent {
+
+	private LevelParent level;
+	private LevelState state;
+	private String nextLevelName;
+
+	LevelEndEvent set(LevelParent level, LevelState state, String nextLevelName) {
+		this.level = level;
+		this.state = state;
+		this.nextLevelName = nextLevelName;
+		return this;
+	}
+
+	@Override
+	public LevelEndEvent copy() {
+		return new LevelEndEvent().set(level, state, nextLevelName);
+	}
+
+	public LevelParent getLevel() {
+		return level;
+	}
+
+	public LevelState getState() {
+		return state;
+	}
+
+	public String getNextLevelName() {
+		return nextLevelName;
+	}
+
+}
@@ -1,16 +1,27 @@
 package com.example.demo;
 
+import javafx.scene.Group;
+
 public class LevelOne extends LevelParent {
 	
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
 	private static final String NEXT_LEVEL = "com.example.demo.LevelTwo";
 	private static final int TOTAL_ENEMIES = 5;
 	private static final int KILLS_TO_ADVANCE = 10;
-	private static final double ENEMY_SPAWN_PROBABILITY = .20;
+	private static final double ENEMY_SPAWN_RATE = 4;
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 
 	public LevelOne(double screenHeight, double screenWidth) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
+		this(screenHeight, screenWidth, GameRandom.configuredSeed());
+	}
+
+	public LevelOne(double screenHeight, double screenWidth, long seed) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
+	}
+
+	@Override
+	public String getNextLevelName() {
+		return NEXT_LEVEL;
 	}
 
 	@Override
@@ -23,25 +34,20 @@ public class LevelOne extends LevelParent {
 	}
 
 	@Override
-	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
-	}
-
-	@Override
-	protected void spawnEnemyUnits() {
+	protected void spawnEnemyUnits(double deltaSeconds) {
 		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
 		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
-				double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
-				ActiveActorDestructible newEnemy = new EnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
+			if (getRandom().chance(ENEMY_SPAWN_RATE * deltaSeconds)) {
+				double newEnemyInitialYPosition = getRandom().nextDouble(getEnemyMaximumYPosition());
+				ActiveActorDestructible newEnemy = getPools().acquireEnemyPlane(getScreenWidth(), newEnemyInitialYPosition);
 				addEnemyUnit(newEnemy);
 			}
 		}
 	}
 
 	@Override
-	protected LevelView instantiateLevelView() {
-		return new LevelView(getRoot(), PLAYER_INITIAL_HEALTH);
+	protected LevelView instantiateLevelView(Group root) {
+		return new LevelView(root, PLAYER_INITIAL_HEALTH);
 	}
 
 	private boolean userHasReachedKillTarget() {
@@ -1,150 +1,298 @@
 package com.example.demo;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
 
-import javafx.animation.*;
-import javafx.event.EventHandler;
 import javafx.scene.Group;
 import javafx.scene.Scene;
-import javafx.scene.image.*;
-import javafx.scene.input.*;
-import javafx.util.Duration;
 
-public abstract class LevelParent extends Observable {
+public abstract class LevelParent {
 
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
-	private static final int MILLISECOND_DELAY = 50;
+	private static final int DEFAULT_TICK_RATE = 60;
+	private final String backgroundImageName;
 	private final double screenHeight;
 	private final double screenWidth;
 	private final double enemyMaximumYPosition;
+	private final int tickRate;
+	private final double secondsPerTick;
 
-	private final Group root;
-	private final Timeline timeline;
+	private final GameRandom random;
 	private final UserPlane user;
-	private final Scene scene;
-	private final ImageView background;
+	private final ActorPools pools;
+	private final CollisionBroadphase broadphase;
+	private final FrameProfiler profiler;
+	private final GameEventBus eventBus;
+	private final DamageEvent damageEvent;
+	private final KillEvent killEvent;
+	private final LevelEndEvent levelEndEvent;
+	private final CollisionHandler mutualDamage;
+	private final ActorLifecycleManager lifecycle;
+	private ActorUpdater actorUpdater;
 
 	private final List<ActiveActorDestructible> friendlyUnits;
 	private final List<ActiveActorDestructible> enemyUnits;
 	private final List<ActiveActorDestructible> userProjectiles;
 	private final List<ActiveActorDestructible> enemyProjectiles;
-	
+	private final InputState inputState;
+	private final InputQueue inputQueue;
+
 	private int currentNumberOfEnemies;
-	private LevelView levelView;
+	private long tickCount;
+	private volatile LevelState state;
+	private int lastKeys;
+	private boolean paused;
+	private volatile boolean disposed;
+	private LevelScreen screen;
+	private InputRecorder inputRecorder;
 
 	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth) {
-		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
-		this.user = new UserPlane(playerInitialHealth);
+		this(backgroundImageName, screenHeight, screenWidth, playerInitialHealth, GameRandom.configuredSeed());
+	}
+
+	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth,
+			long seed) {
+		this.backgroundImageName = backgroundImageName;
+		this.random = new GameRandom(seed);
+		this.user = new UserPlane(playerInitialHealth, random.split());
 		this.friendlyUnits = new ArrayList<>();
 		this.enemyUnits = new ArrayList<>();
 		this.userProjectiles = new ArrayList<>();
 		this.enemyProjectiles = new ArrayList<>();
+		this.inputState = new InputState();
+		this.inputQueue = new InputQueue();
+		this.pools = new ActorPools(random.split());
+		this.broadphase = CollisionBroadphase.fromConfig();
+		this.profiler = new FrameProfiler(getClass().getSimpleName());
+		this.eventBus = new GameEventBus();
+		this.damageEvent = new DamageEvent();
+		this.killEvent = new KillEvent();
+		this.levelEndEvent = new LevelEndEvent();
+		this.mutualDamage = this::applyMutualDamage;
+		this.actorUpdater = ActorUpdater.fromConfig();
 
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
+		this.lifecycle = new ActorLifecycleManager(screenWidth, screenHeight);
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
-		this.levelView = instantiateLevelView();
+		this.tickRate = GameConfig.getInt("tickRate", DEFAULT_TICK_RATE);
+		this.secondsPerTick = 1.0 / tickRate;
 		this.currentNumberOfEnemies = 0;
-		initializeTimeline();
+		this.state = LevelState.RUNNING;
 		friendlyUnits.add(user);
 	}
 
-	protected abstract void initializeFriendlyUnits();
-
 	protected abstract void checkIfGameOver();
 
-	protected abstract void spawnEnemyUnits();
+	protected abstract void spawnEnemyUnits(double deltaSeconds);
 
-	protected abstract LevelView instantiateLevelView();
+	protected abstract LevelView instantiateLevelView(Group root);
 
 	public Scene initializeScene() {
-		initializeBackground();
-		initializeFriendlyUnits();
-		levelView.showHeartDisplay();
-		return scene;
+		screen = new LevelScreen(this, backgroundImageName, screenHeight, screenWidth);
+		return screen.getScene();
+	}
+
+	public void start() {
+		screen.start();
+	}
+
+	public void pause() {
+		if (paused || disposed || state != LevelState.RUNNING) {
+			return;
+		}
+		if (screen != null) {
+			screen.stop();
+		}
+		paused = true;
+		inputQueue.clear();
+		inputState.clear();
+	}
+
+	public void resume() {
+		if (!paused || disposed) {
+			return;
+		}
+		paused = false;
+		if (screen != null) {
+			screen.start();
+		}
+	}
+
+	public void togglePause() {
+		if (paused) {
+			resume();
+		} else {
+			pause();
+		}
+	}
+
+	public void dispose() {
+		if (disposed) {
+			return;
+		}
+		if (screen != null) {
+			screen.dispose();
+			screen = null;
+		}
+		disposed = true;
+		eventBus.clear();
+		if (inputRecorder != null) {
+			inputRecorder.finish(tickCount);
+			inputRecorder = null;
+		}
+		releaseActors(enemyUnits);
+		releaseActors(userProjectiles);
+		releaseActors(enemyProjectiles);
+		pools.getBossBullets().clear();
+		friendlyUnits.clear();
+		inputQueue.clear();
+		inputState.clear();
+	}
+
+	private void releaseActors(List<ActiveActorDestructible> actors) {
+		actors.forEach(actor -> actor.recycle());
+		actors.clear();
+	}
+
+	public String getNextLevelName() {
+		return null;
+	}
+
+	public void preloadAssets() {
+		prewarmPools();
+		Set<SpriteCache.Request> sprites = new LinkedHashSet<>();
+		collectSprites(sprites);
+		sprites.forEach(SpriteAtlas::load);
 	}
 
-	public void startGame() {
-		background.requestFocus();
-		timeline.play();
+	public void prewarmPools() {
+		pools.prewarm();
+	}
+
+	protected void collectSprites(Set<SpriteCache.Request> sprites) {
+		sprites.add(new SpriteCache.Request(backgroundImageName, screenWidth, screenHeight));
+		sprites.add(SpriteCache.Request.ofHeight(user.getImagePath(), user.getImageHeight()));
+		pools.collectSprites(sprites);
+	}
+
+	public void setOnFirstFrame(Runnable listener) {
+		screen.setOnFirstFrame(listener);
 	}
 
 	public void goToNextLevel(String levelName) {
-		setChanged();
-		notifyObservers(levelName);
+		if (state != LevelState.RUNNING) {
+			return;
+		}
+		state = LevelState.ADVANCED;
+		eventBus.publish(levelEndEvent.set(this, state, levelName));
 	}
 
-	private void updateScene() {
-		spawnEnemyUnits();
+	public void tick() {
+		if (state != LevelState.RUNNING || disposed) {
+			return;
+		}
+		long tickStart = profiler.start();
+		tickCount++;
+		capturePreviousPositions();
+		applyInput();
+		spawnEnemyUnits(secondsPerTick);
+		long phaseStart = profiler.lap(FrameProfiler.Phase.SPAWN, tickStart);
 		updateActors();
+		phaseStart = profiler.lap(FrameProfiler.Phase.UPDATE, phaseStart);
 		generateEnemyFire();
+		phaseStart = profiler.lap(FrameProfiler.Phase.ENEMY_FIRE, phaseStart);
 		updateNumberOfEnemies();
 		handleEnemyPenetration();
+		retireOutOfBoundsActors();
+		cacheAllBounds();
 		handleUserProjectileCollisions();
 		handleEnemyProjectileCollisions();
 		handlePlaneCollisions();
+		phaseStart = profiler.lap(FrameProfiler.Phase.COLLISIONS, phaseStart);
 		removeAllDestroyedActors();
 		updateKillCount();
-		updateLevelView();
+		phaseStart = profiler.lap(FrameProfiler.Phase.CLEANUP, phaseStart);
+		publishStateChanges();
 		checkIfGameOver();
+		profiler.lap(FrameProfiler.Phase.GAME_OVER_CHECK, phaseStart);
+		profiler.endTick(tickStart, tickCount, getActorCount());
+		if (inputRecorder != null && state != LevelState.RUNNING) {
+			inputRecorder.finish(tickCount);
+			inputRecorder = null;
+		}
 	}
 
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
+	public InputState getInputState() {
+		return inputState;
 	}
 
-	private void initializeBackground() {
-		background.setFocusTraversable(true);
-		background.setFitHeight(screenHeight);
-		background.setFitWidth(screenWidth);
-		background.setOnKeyPressed(new EventHandler<KeyEvent>() {
-			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				if (kc == KeyCode.UP) user.moveUp();
-				if (kc == KeyCode.DOWN) user.moveDown();
-				if (kc == KeyCode.SPACE) fireProjectile();
-			}
-		});
-		background.setOnKeyReleased(new EventHandler<KeyEvent>() {
-			public void handle(KeyEvent e) {
-				KeyCode kc = e.getCode();
-				if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
-			}
-		});
-		root.getChildren().add(background);
+	public InputQueue getInputQueue() {
+		return inputQueue;
+	}
+
+	public Executor getListenerExecutor() {
+		return screen == null ? GameEventBus.DIRECT : screen.getListenerExecutor();
+	}
+
+	public void setInputRecorder(InputRecorder inputRecorder) {
+		this.inputRecorder = inputRecorder;
+	}
+
+	private void applyInput() {
+		inputQueue.drainTo(inputState);
+		int keys = inputState.sample();
+		if (inputRecorder != null && keys != lastKeys) {
+			inputRecorder.record(tickCount, keys);
+			inputRecorder.flush();
+		}
+		lastKeys = keys;
+		user.steer(InputState.isHeld(keys, InputState.UP), InputState.isHeld(keys, InputState.DOWN));
+		if (InputState.isHeld(keys, InputState.FIRE)) {
+			fireProjectile();
+		}
 	}
 
 	private void fireProjectile() {
-		ActiveActorDestructible projectile = user.fireProjectile();
-		root.getChildren().add(projectile);
-		userProjectiles.add(projectile);
+		ActiveActorDestructible projectile = user.fireProjectile(pools);
+		if (projectile != null) {
+			userProjectiles.add(projectile);
+		}
 	}
 
-	private void generateEnemyFire() {
-		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
+	void generateEnemyFire() {
+		pools.getBossBullets().setTarget(user.getX() + user.getImageWidth() / 2, user.getY() + user.getImageHeight() / 2);
+		enemyUnits.forEach(
+				enemy -> spawnEnemyProjectile(((EnemyFighterPlane) enemy).fireProjectile(pools, secondsPerTick)));
 	}
 
 	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
 		if (projectile != null) {
-			root.getChildren().add(projectile);
 			enemyProjectiles.add(projectile);
 		}
 	}
 
-	private void updateActors() {
-		friendlyUnits.forEach(plane -> plane.updateActor());
-		enemyUnits.forEach(enemy -> enemy.updateActor());
-		userProjectiles.forEach(projectile -> projectile.updateActor());
-		enemyProjectiles.forEach(projectile -> projectile.updateActor());
+	private void capturePreviousPositions() {
+		friendlyUnits.forEach(plane -> plane.capturePreviousPosition());
+		enemyUnits.forEach(enemy -> enemy.capturePreviousPosition());
+		userProjectiles.forEach(projectile -> projectile.capturePreviousPosition());
+		enemyProjectiles.forEach(projectile -> projectile.capturePreviousPosition());
+		pools.getBossBullets().capturePreviousPositions();
+	}
+
+	void updateActors() {
+		actorUpdater.update(friendlyUnits, secondsPerTick);
+		actorUpdater.update(enemyUnits, secondsPerTick);
+		actorUpdater.update(userProjectiles, secondsPerTick);
+		actorUpdater.update(enemyProjectiles, secondsPerTick);
+		pools.getBossBullets().update(secondsPerTick);
 	}
 
-	private void removeAllDestroyedActors() {
+	void setActorUpdater(ActorUpdater actorUpdater) {
+		this.actorUpdater = actorUpdater;
+	}
+
+	void removeAllDestroyedActors() {
 		removeDestroyedActors(friendlyUnits);
 		removeDestroyedActors(enemyUnits);
 		removeDestroyedActors(userProjectiles);
@@ -152,53 +300,103 @@ public abstract class LevelParent extends Observable {
 	}
 
 	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream().filter(actor -> actor.isDestroyed())
-				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
+		int size = actors.size();
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (actor.isDestroyed()) {
+				actor.recycle();
+			} else {
+				if (kept != i) {
+					actors.set(kept, actor);
+				}
+				kept++;
+			}
+		}
+		truncate(actors, kept);
 	}
 
-	private void handlePlaneCollisions() {
+	private void truncate(List<ActiveActorDestructible> actors, int size) {
+		for (int i = actors.size() - 1; i >= size; i--) {
+			actors.remove(i);
+		}
+	}
+
+	void retireOutOfBoundsActors() {
+		lifecycle.retireOutOfBounds(enemyUnits);
+		lifecycle.retireOutOfBounds(userProjectiles);
+		lifecycle.retireOutOfBounds(enemyProjectiles);
+		lifecycle.retireOutOfBounds(pools.getBossBullets());
+	}
+
+	void cacheAllBounds() {
+		cacheBounds(friendlyUnits);
+		cacheBounds(enemyUnits);
+		cacheBounds(userProjectiles);
+		cacheBounds(enemyProjectiles);
+	}
+
+	private void cacheBounds(List<ActiveActorDestructible> actors) {
+		for (int i = 0; i < actors.size(); i++) {
+			actors.get(i).cacheBounds();
+		}
+	}
+
+	void handlePlaneCollisions() {
 		handleCollisions(friendlyUnits, enemyUnits);
 	}
 
-	private void handleUserProjectileCollisions() {
+	void handleUserProjectileCollisions() {
 		handleCollisions(userProjectiles, enemyUnits);
 	}
 
-	private void handleEnemyProjectileCollisions() {
+	void handleEnemyProjectileCollisions() {
 		handleCollisions(enemyProjectiles, friendlyUnits);
+		for (int i = 0; i < friendlyUnits.size(); i++) {
+			ActiveActorDestructible unit = friendlyUnits.get(i);
+			for (int hits = pools.getBossBullets().collide(unit); hits > 0; hits--) {
+				damage(unit);
+			}
+		}
 	}
 
 	private void handleCollisions(List<ActiveActorDestructible> actors1,
 			List<ActiveActorDestructible> actors2) {
-		for (ActiveActorDestructible actor : actors2) {
-			for (ActiveActorDestructible otherActor : actors1) {
-				if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
-					actor.takeDamage();
-					otherActor.takeDamage();
-				}
-			}
+		broadphase.detectCollisions(actors1, actors2, mutualDamage);
+	}
+
+	private void applyMutualDamage(ActiveActorDestructible actor, ActiveActorDestructible otherActor) {
+		damage(actor);
+		damage(otherActor);
+	}
+
+	private void damage(ActiveActorDestructible actor) {
+		actor.takeDamage();
+		if (actor instanceof FighterPlane plane) {
+			eventBus.publish(damageEvent.set(plane, plane.getHealth()));
 		}
 	}
 
+	protected void publishStateChanges() {
+	}
+
 	private void handleEnemyPenetration() {
 		for (ActiveActorDestructible enemy : enemyUnits) {
 			if (enemyHasPenetratedDefenses(enemy)) {
-				user.takeDamage();
+				damage(user);
 				enemy.destroy();
 			}
 		}
 	}
 
-	private void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
-	}
-
 	private void updateKillCount() {
-		for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
+		int newKills = currentNumberOfEnemies - enemyUnits.size();
+		for (int i = 0; i < newKills; i++) {
 			user.incrementKillCount();
 		}
+		if (newKills > 0) {
+			eventBus.publish(killEvent.set(newKills, user.getNumberOfKills()));
+		}
 	}
 
 	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
@@ -206,21 +404,90 @@ public abstract class LevelParent extends Observable {
 	}
 
 	protected void winGame() {
-		timeline.stop();
-		levelView.showWinImage();
+		state = LevelState.WON;
+		eventBus.publish(levelEndEvent.set(this, state, null));
 	}
 
 	protected void loseGame() {
-		timeline.stop();
-		levelView.showGameOverImage();
+		state = LevelState.LOST;
+		eventBus.publish(levelEndEvent.set(this, state, null));
 	}
 
-	protected UserPlane getUser() {
+	public GameEventBus getEventBus() {
+		return eventBus;
+	}
+
+	public FrameProfiler getProfiler() {
+		return profiler;
+	}
+
+	public ActorLifecycleManager getLifecycle() {
+		return lifecycle;
+	}
+
+	public Collection<ActorLifecycleManager.TypeCounts> getActorTypeCounts() {
+		return lifecycle.countLive(List.of(friendlyUnits, enemyUnits, userProjectiles, enemyProjectiles));
+	}
+
+	public UserPlane getUser() {
 		return user;
 	}
 
-	protected Group getRoot() {
-		return root;
+	public LevelState getState() {
+		return state;
+	}
+
+	public boolean isPaused() {
+		return paused;
+	}
+
+	public boolean isDisposed() {
+		return disposed;
+	}
+
+	public int getTickRate() {
+		return tickRate;
+	}
+
+	public double getSecondsPerTick() {
+		return secondsPerTick;
+	}
+
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	public int getActorCount() {
+		return friendlyUnits.size() + enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size()
+				+ pools.getBossBullets().size();
+	}
+
+	List<ActiveActorDestructible> getFriendlyUnits() {
+		return friendlyUnits;
+	}
+
+	List<ActiveActorDestructible> getEnemyUnits() {
+		return enemyUnits;
+	}
+
+	List<ActiveActorDestructible> getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	List<ActiveActorDestructible> getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+
+	public GameRandom getRandom() {
+		return random;
+	}
+
+	BulletField getBossBullets() {
+		return pools.getBossBullets();
+	}
+
+	protected ActorPools getPools() {
+		return pools;
 	}
 
 	protected int getCurrentNumberOfEnemies() {
@@ -229,7 +496,6 @@ public abstract class LevelParent extends Observable {
 
 	protected void addEnemyUnit(ActiveActorDestructible enemy) {
 		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
 	}
 
 	protected double getEnemyMaximumYPosition() {
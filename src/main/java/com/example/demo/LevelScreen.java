@@ -0,0 +1,136 @@
+package com.example.demo;
+
+import java.util.concurrent.Executor;
+
+import javafx.event.EventHandler;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+
+public class LevelScreen {
+
+	private static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+	private final LevelParent level;
+	private final double screenHeight;
+	private final double screenWidth;
+	private final Group root;
+	private final Scene scene;
+	private final FrameDriver frameDriver;
+	private final ImageView background;
+	private final ActorRenderer actorRenderer;
+	private final LevelView levelView;
+	private final DebugOverlay debugOverlay;
+	private final LatencyHistogram renderTimes;
+	private Runnable firstFrameListener;
+	private boolean disposed;
+
+	public LevelScreen(LevelParent level, String backgroundImageName, double screenHeight, double screenWidth) {
+		this.level = level;
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.root = new Group();
+		this.scene = new Scene(root, screenWidth, screenHeight);
+		this.frameDriver = FrameDriver.fromConfig(level,
+				GameConfig.getInt("maxStepsPerFrame", DEFAULT_MAX_STEPS_PER_FRAME), this::render);
+		this.background = new ImageView(SpriteCache.getImage(backgroundImageName, screenWidth, screenHeight));
+		this.actorRenderer = ActorRenderer.fromConfig(screenWidth, screenHeight);
+		initializeBackground();
+		root.getChildren().add(actorRenderer.getNode());
+		this.levelView = level.instantiateLevelView(root);
+		levelView.showHeartDisplay();
+		levelView.subscribe(level, frameDriver.getListenerExecutor());
+		level.getEventBus().subscribe(LevelEndEvent.class, this::onLevelEnd, frameDriver.getListenerExecutor());
+		this.debugOverlay = new DebugOverlay();
+		this.renderTimes = new LatencyHistogram();
+		root.getChildren().add(debugOverlay.getText());
+		render(new WorldSnapshot().capture(level, System.nanoTime()), 0);
+	}
+
+	public Scene getScene() {
+		return scene;
+	}
+
+	public void start() {
+		background.requestFocus();
+		frameDriver.start();
+	}
+
+	public void stop() {
+		frameDriver.stop();
+	}
+
+	public void dispose() {
+		disposed = true;
+		frameDriver.stop();
+		firstFrameListener = null;
+		background.setOnKeyPressed(null);
+		background.setOnKeyReleased(null);
+		actorRenderer.dispose();
+		root.getChildren().clear();
+	}
+
+	public Executor getListenerExecutor() {
+		return frameDriver.getListenerExecutor();
+	}
+
+	private void onLevelEnd(LevelEndEvent event) {
+		if (disposed) {
+			return;
+		}
+		frameDriver.stop();
+		if (event.getState() == LevelState.WON) {
+			levelView.showWinImage();
+		} else if (event.getState() == LevelState.LOST) {
+			levelView.showGameOverImage();
+		}
+	}
+
+	public void setOnFirstFrame(Runnable listener) {
+		this.firstFrameListener = listener;
+	}
+
+	private void render(WorldSnapshot snapshot, double alpha) {
+		if (disposed) {
+			return;
+		}
+		long renderStart = FrameProfiler.ENABLED ? System.nanoTime() : 0;
+		actorRenderer.sync(snapshot, alpha);
+		if (FrameProfiler.ENABLED) {
+			renderTimes.record(System.nanoTime() - renderStart);
+		}
+		debugOverlay.update(level, snapshot, frameDriver, renderTimes);
+		if (firstFrameListener != null && frameDriver.isRunning()) {
+			Runnable listener = firstFrameListener;
+			firstFrameListener = null;
+			listener.run();
+		}
+	}
+
+	private void initializeBackground() {
+		background.setFocusTraversable(true);
+		background.setFitHeight(screenHeight);
+		background.setFitWidth(screenWidth);
+		background.setOnKeyPressed(new EventHandler<KeyEvent>() {
+			public void handle(KeyEvent e) {
+				KeyCode kc = e.getCode();
+				if (kc == KeyCode.UP) level.getInputQueue().press(InputState.UP);
+				if (kc == KeyCode.DOWN) level.getInputQueue().press(InputState.DOWN);
+				if (kc == KeyCode.SPACE) level.getInputQueue().press(InputState.FIRE);
+				if (kc == KeyCode.F3) debugOverlay.toggle();
+				if (kc == KeyCode.P) level.togglePause();
+			}
+		});
+		background.setOnKeyReleased(new EventHandler<KeyEvent>() {
+			public void handle(KeyEvent e) {
+				KeyCode kc = e.getCode();
+				if (kc == KeyCode.UP) level.getInputQueue().release(InputState.UP);
+				if (kc == KeyCode.DOWN) level.getInputQueue().release(InputState.DOWN);
+				if (kc == KeyCode.SPACE) level.getInputQueue().release(InputState.FIRE);
+			}
+		});
+		root.getChildren().add(background);
+	}
+
+}
@@ -0,0 +1,10 @@
+package com.example.demo;
+
+public enum LevelState {
+
+	RUNNING,
+	WON,
+	LOST,
+	ADVANCED
+
+}
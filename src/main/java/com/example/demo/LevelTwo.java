@@ -1,20 +1,26 @@
 package com.example.demo;
 
+import java.util.Set;
+
+import javafx.scene.Group;
+
 public class LevelTwo extends LevelParent {
 
 	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background2.jpg";
 	private static final int PLAYER_INITIAL_HEALTH = 5;
 	private final Boss boss;
-	private LevelViewLevelTwo levelView;
+	private final ShieldEvent shieldEvent;
+	private boolean shieldPublished;
 
 	public LevelTwo(double screenHeight, double screenWidth) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH);
-		boss = new Boss();
+		this(screenHeight, screenWidth, GameRandom.configuredSeed());
 	}
 
-	@Override
-	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+	public LevelTwo(double screenHeight, double screenWidth, long seed) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
+		boss = new Boss(getRandom().split());
+		getPools().openBossBullets();
+		shieldEvent = new ShieldEvent();
 	}
 
 	@Override
@@ -28,16 +34,30 @@ public class LevelTwo extends LevelParent {
 	}
 
 	@Override
-	protected void spawnEnemyUnits() {
+	protected void publishStateChanges() {
+		if (boss.isShielded() != shieldPublished) {
+			shieldPublished = boss.isShielded();
+			getEventBus().publish(shieldEvent.set(boss, shieldPublished));
+		}
+	}
+
+	@Override
+	protected void spawnEnemyUnits(double deltaSeconds) {
 		if (getCurrentNumberOfEnemies() == 0) {
 			addEnemyUnit(boss);
 		}
 	}
 
 	@Override
-	protected LevelView instantiateLevelView() {
-		levelView = new LevelViewLevelTwo(getRoot(), PLAYER_INITIAL_HEALTH);
-		return levelView;
+	protected void collectSprites(Set<SpriteCache.Request> sprites) {
+		super.collectSprites(sprites);
+		sprites.add(SpriteCache.Request.ofHeight(boss.getImagePath(), boss.getImageHeight()));
+		sprites.add(ShieldImage.SPRITE);
+	}
+
+	@Override
+	protected LevelView instantiateLevelView(Group root) {
+		return new LevelViewLevelTwo(root, PLAYER_INITIAL_HEALTH, boss);
 	}
 
 }
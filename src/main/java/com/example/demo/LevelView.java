@@ -1,11 +1,15 @@
 package com.example.demo;
 
+import java.util.concurrent.Executor;
+
 import javafx.scene.Group;
 
 public class LevelView {
 	
 	private static final double HEART_DISPLAY_X_POSITION = 5;
 	private static final double HEART_DISPLAY_Y_POSITION = 25;
+	private static final double KILL_COUNT_X_POSITION = 10;
+	private static final double KILL_COUNT_Y_POSITION = 105;
 	private static final int WIN_IMAGE_X_POSITION = 355;
 	private static final int WIN_IMAGE_Y_POSITION = 175;
 	private static final int LOSS_SCREEN_X_POSITION = -160;
@@ -14,16 +18,18 @@ public class LevelView {
 	private final WinImage winImage;
 	private final GameOverImage gameOverImage;
 	private final HeartDisplay heartDisplay;
+	private final KillCountDisplay killCountDisplay;
 	
 	public LevelView(Group root, int heartsToDisplay) {
 		this.root = root;
 		this.heartDisplay = new HeartDisplay(HEART_DISPLAY_X_POSITION, HEART_DISPLAY_Y_POSITION, heartsToDisplay);
 		this.winImage = new WinImage(WIN_IMAGE_X_POSITION, WIN_IMAGE_Y_POSITION);
 		this.gameOverImage = new GameOverImage(LOSS_SCREEN_X_POSITION, LOSS_SCREEN_Y_POSISITION);
+		this.killCountDisplay = new KillCountDisplay(KILL_COUNT_X_POSITION, KILL_COUNT_Y_POSITION);
 	}
 	
 	public void showHeartDisplay() {
-		root.getChildren().add(heartDisplay.getContainer());
+		root.getChildren().addAll(heartDisplay.getContainer(), killCountDisplay.getText());
 	}
 
 	public void showWinImage() {
@@ -35,11 +41,17 @@ public class LevelView {
 		root.getChildren().add(gameOverImage);
 	}
 	
-	public void removeHearts(int heartsRemaining) {
-		int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size();
-		for (int i = 0; i < currentNumberOfHearts - heartsRemaining; i++) {
-			heartDisplay.removeHeart();
-		}
+	public void subscribe(LevelParent level, Executor executor) {
+		UserPlane user = level.getUser();
+		GameEventBus eventBus = level.getEventBus();
+		eventBus.subscribe(DamageEvent.class, event -> {
+			if (event.getPlane() == user) {
+				heartDisplay.showHearts(event.getHealth());
+			}
+		}, executor);
+		eventBus.subscribe(KillEvent.class, event -> killCountDisplay.showKills(event.getTotalKills()), executor);
+		heartDisplay.showHearts(user.getHealth());
+		killCountDisplay.showKills(user.getNumberOfKills());
 	}
 
 }
@@ -1,23 +1,48 @@
 package com.example.demo;
 
+import java.util.concurrent.Executor;
+
 import javafx.scene.Group;
 
 public class LevelViewLevelTwo extends LevelView {
 
 	private static final int SHIELD_X_POSITION = 1150;
 	private static final int SHIELD_Y_POSITION = 500;
+	private static final int BOSS_HEALTH_X_POSITION = 950;
+	private static final int BOSS_HEALTH_Y_POSITION = 40;
 	private final Group root;
+	private final Boss boss;
 	private final ShieldImage shieldImage;
+	private final BossHealthDisplay bossHealthDisplay;
 	
-	public LevelViewLevelTwo(Group root, int heartsToDisplay) {
+	public LevelViewLevelTwo(Group root, int heartsToDisplay, Boss boss) {
 		super(root, heartsToDisplay);
 		this.root = root;
+		this.boss = boss;
 		this.shieldImage = new ShieldImage(SHIELD_X_POSITION, SHIELD_Y_POSITION);
+		this.bossHealthDisplay = new BossHealthDisplay(BOSS_HEALTH_X_POSITION, BOSS_HEALTH_Y_POSITION,
+				boss.getInitialHealth());
 		addImagesToRoot();
 	}
 	
 	private void addImagesToRoot() {
-		root.getChildren().addAll(shieldImage);
+		root.getChildren().addAll(shieldImage, bossHealthDisplay.getContainer());
+	}
+
+	@Override
+	public void subscribe(LevelParent level, Executor executor) {
+		super.subscribe(level, executor);
+		GameEventBus eventBus = level.getEventBus();
+		eventBus.subscribe(DamageEvent.class, event -> {
+			if (event.getPlane() == boss) {
+				bossHealthDisplay.showHealth(event.getHealth());
+			}
+		}, executor);
+		eventBus.subscribe(ShieldEvent.class, event -> {
+			if (event.isActive()) showShield();
+			else hideShield();
+		}, executor);
+		bossHealthDisplay.showHealth(boss.getHealth());
 	}
 	
 	public void showShield() {
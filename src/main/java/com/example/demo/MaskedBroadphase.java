@@ -0,0 +1,23 @@
+package com.example.demo;
+
+import java.util.List;
+
+public class MaskedBroadphase implements CollisionBroadphase {
+
+	private final CollisionBroadphase delegate;
+
+	public MaskedBroadphase(CollisionBroadphase delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void detectCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2,
+			CollisionHandler handler) {
+		delegate.detectCollisions(actors1, actors2, (actor, otherActor) -> {
+			if (actor.masksIntersect(otherActor)) {
+				handler.onCollision(actor, otherActor);
+			}
+		});
+	}
+
+}
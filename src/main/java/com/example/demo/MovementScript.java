@@ -0,0 +1,96 @@
+package com.example.demo;
+
+import java.util.Arrays;
+
+public final class MovementScript {
+
+	private static final byte MOVE = 0;
+	private static final byte MOVE_RANDOM = 1;
+	private static final byte HOLD = 2;
+	private static final int INITIAL_STEPS = 4;
+	private final double minY;
+	private final double maxY;
+	private byte[] kinds;
+	private double[] targets;
+	private double[] durations;
+	private int length;
+	private int step;
+	private double elapsed;
+	private double stepTarget;
+	private boolean started;
+
+	public MovementScript(double minY, double maxY) {
+		this.minY = minY;
+		this.maxY = maxY;
+		this.kinds = new byte[INITIAL_STEPS];
+		this.targets = new double[INITIAL_STEPS];
+		this.durations = new double[INITIAL_STEPS];
+	}
+
+	public MovementScript moveTo(double y, double seconds) {
+		return add(MOVE, y, seconds);
+	}
+
+	public MovementScript moveToRandom(double seconds) {
+		return add(MOVE_RANDOM, 0, seconds);
+	}
+
+	public MovementScript hold(double seconds) {
+		return add(HOLD, 0, seconds);
+	}
+
+	private MovementScript add(byte kind, double target, double seconds) {
+		if (seconds <= 0) {
+			throw new IllegalArgumentException("Step duration must be positive: " + seconds);
+		}
+		if (length == kinds.length) {
+			kinds = Arrays.copyOf(kinds, length * 2);
+			targets = Arrays.copyOf(targets, length * 2);
+			durations = Arrays.copyOf(durations, length * 2);
+		}
+		kinds[length] = kind;
+		targets[length] = Math.max(minY, Math.min(maxY, target));
+		durations[length] = seconds;
+		length++;
+		return this;
+	}
+
+	public void reset() {
+		step = 0;
+		elapsed = 0;
+		started = false;
+	}
+
+	public double getVelocity(double currentY, double deltaSeconds, GameRandom random) {
+		if (length == 0) {
+			return 0;
+		}
+		if (!started) {
+			beginStep(currentY, random);
+			started = true;
+		}
+		double remaining = Math.max(durations[step] - elapsed, deltaSeconds);
+		double velocity = kinds[step] == HOLD ? 0 : (stepTarget - currentY) / remaining;
+		elapsed += deltaSeconds;
+		if (elapsed >= durations[step]) {
+			step = (step + 1) % length;
+			beginStep(currentY + velocity * deltaSeconds, random);
+		}
+		return velocity;
+	}
+
+	private void beginStep(double currentY, GameRandom random) {
+		elapsed = 0;
+		switch (kinds[step]) {
+			case MOVE_RANDOM:
+				stepTarget = minY + random.nextDouble(maxY - minY);
+				break;
+			case HOLD:
+				stepTarget = currentY;
+				break;
+			default:
+				stepTarget = targets[step];
+		}
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.example.demo;
+
+public final class ProfileWindow {
+
+	private static final double P50 = 50;
+	private static final double P99 = 99;
+	private static final int PHASE_COUNT = FrameProfiler.Phase.values().length;
+	private final long[] p50;
+	private final long[] p99;
+	private final long[] max;
+	private int maxActorCount;
+	private long ticks;
+
+	public ProfileWindow() {
+		this.p50 = new long[PHASE_COUNT];
+		this.p99 = new long[PHASE_COUNT];
+		this.max = new long[PHASE_COUNT];
+	}
+
+	void record(FrameProfiler.Phase phase, LatencyHistogram histogram) {
+		int i = phase.ordinal();
+		p50[i] = histogram.getPercentile(P50);
+		p99[i] = histogram.getPercentile(P99);
+		max[i] = histogram.getMax();
+	}
+
+	void finish(int maxActorCount, long ticks) {
+		this.maxActorCount = maxActorCount;
+		this.ticks = ticks;
+	}
+
+	void copyFrom(ProfileWindow other) {
+		System.arraycopy(other.p50, 0, p50, 0, PHASE_COUNT);
+		System.arraycopy(other.p99, 0, p99, 0, PHASE_COUNT);
+		System.arraycopy(other.max, 0, max, 0, PHASE_COUNT);
+		maxActorCount = other.maxActorCount;
+		ticks = other.ticks;
+	}
+
+	public long getP50(FrameProfiler.Phase phase) {
+		return p50[phase.ordinal()];
+	}
+
+	public long getP99(FrameProfiler.Phase phase) {
+		return p99[phase.ordinal()];
+	}
+
+	public long getMax(FrameProfiler.Phase phase) {
+		return max[phase.ordinal()];
+	}
+
+	public int getMaxActorCount() {
+		return maxActorCount;
+	}
+
+	public long getTicks() {
+		return ticks;
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.example.demo;
+
+public final class ShieldEvent implements GameEvent {
+
+	private Boss boss;
+	private boolean active;
+
+	ShieldEvent set(Boss boss, boolean active) {
+		this.boss = boss;
+		this.active = active;
+		return this;
+	}
+
+	@Override
+	public ShieldEvent copy() {
+		return new ShieldEvent().set(boss, active);
+	}
+
+	public Boss getBoss() {
+		return boss;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+}
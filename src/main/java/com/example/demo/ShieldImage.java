@@ -1,21 +1,21 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 public class ShieldImage extends ImageView {
 	
-	private static final String IMAGE_NAME = "/images/shield.png";
-	private static final int SHIELD_SIZE = 200;
+	static final String IMAGE_NAME = "/com/example/demo/images/shield.png";
+	private static final int SHIELD_HEIGHT = SpriteManifest.getHeight(IMAGE_NAME);
+	private static final int SHIELD_WIDTH = SpriteManifest.getWidth(IMAGE_NAME);
+	static final SpriteCache.Request SPRITE = new SpriteCache.Request(IMAGE_NAME, SHIELD_WIDTH, SHIELD_HEIGHT);
 	
 	public ShieldImage(double xPosition, double yPosition) {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
-		//this.setImage(new Image(IMAGE_NAME));
-		this.setImage(new Image(getClass().getResource("/com/example/demo/images/shield.jpg").toExternalForm()));
+		SpriteAtlas.show(this, SPRITE);
 		this.setVisible(false);
-		this.setFitHeight(SHIELD_SIZE);
-		this.setFitWidth(SHIELD_SIZE);
+		this.setFitHeight(SHIELD_HEIGHT);
+		this.setFitWidth(SHIELD_WIDTH);
 	}
 
 	public void showShield() {
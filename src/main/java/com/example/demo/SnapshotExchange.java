@@ -0,0 +1,34 @@
+package com.example.demo;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class SnapshotExchange {
+
+	private final AtomicReference<WorldSnapshot> ready;
+	private WorldSnapshot back;
+	private WorldSnapshot front;
+	private long published;
+
+	public SnapshotExchange() {
+		this.ready = new AtomicReference<>(new WorldSnapshot());
+		this.back = new WorldSnapshot();
+		this.front = new WorldSnapshot();
+	}
+
+	public WorldSnapshot getBackBuffer() {
+		return back;
+	}
+
+	public void publish() {
+		back.setSequence(++published);
+		back = ready.getAndSet(back);
+	}
+
+	public WorldSnapshot acquire() {
+		if (ready.get().getSequence() > front.getSequence()) {
+			front = ready.getAndSet(front);
+		}
+		return front;
+	}
+
+}
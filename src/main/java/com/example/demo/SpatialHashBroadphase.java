@@ -0,0 +1,122 @@
+package com.example.demo;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class SpatialHashBroadphase implements CollisionBroadphase {
+
+	private static final double DEFAULT_CELL_SIZE = 128;
+	private static final int MINIMUM_TABLE_SIZE = 64;
+	private static final int EMPTY = -1;
+	private static final int X_PRIME = 73856093;
+	private static final int Y_PRIME = 19349663;
+
+	private final double cellSize;
+	private int[] bucketHeads;
+	private int[] entryNext;
+	private int[] entryActor;
+	private int entryCount;
+	private int[] visitStamps;
+	private int currentStamp;
+
+	public SpatialHashBroadphase() {
+		this(DEFAULT_CELL_SIZE);
+	}
+
+	public SpatialHashBroadphase(double cellSize) {
+		this.cellSize = cellSize;
+		this.bucketHeads = new int[MINIMUM_TABLE_SIZE];
+		this.entryNext = new int[MINIMUM_TABLE_SIZE];
+		this.entryActor = new int[MINIMUM_TABLE_SIZE];
+		this.visitStamps = new int[MINIMUM_TABLE_SIZE];
+	}
+
+	@Override
+	public void detectCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2,
+			CollisionHandler handler) {
+		if (actors1.isEmpty() || actors2.isEmpty()) {
+			return;
+		}
+		insertAll(actors1);
+		for (int i = 0; i < actors2.size(); i++) {
+			ActiveActorDestructible actor = actors2.get(i);
+			nextStamp();
+			int minCellX = cell(actor.getCachedMinX());
+			int maxCellX = cell(actor.getCachedMaxX());
+			int minCellY = cell(actor.getCachedMinY());
+			int maxCellY = cell(actor.getCachedMaxY());
+			for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+				for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+					for (int entry = bucketHeads[bucket(cellX, cellY)]; entry != EMPTY; entry = entryNext[entry]) {
+						int otherIndex = entryActor[entry];
+						if (visitStamps[otherIndex] == currentStamp) {
+							continue;
+						}
+						visitStamps[otherIndex] = currentStamp;
+						ActiveActorDestructible otherActor = actors1.get(otherIndex);
+						if (actor.cachedBoundsIntersect(otherActor)) {
+							handler.onCollision(actor, otherActor);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private void insertAll(List<ActiveActorDestructible> actors) {
+		prepareTable(actors.size());
+		entryCount = 0;
+		for (int i = 0; i < actors.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			int minCellX = cell(actor.getCachedMinX());
+			int maxCellX = cell(actor.getCachedMaxX());
+			int minCellY = cell(actor.getCachedMinY());
+			int maxCellY = cell(actor.getCachedMaxY());
+			for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+				for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+					insert(bucket(cellX, cellY), i);
+				}
+			}
+		}
+	}
+
+	private void insert(int bucket, int actorIndex) {
+		if (entryCount == entryActor.length) {
+			entryActor = Arrays.copyOf(entryActor, entryCount * 2);
+			entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+		}
+		entryActor[entryCount] = actorIndex;
+		entryNext[entryCount] = bucketHeads[bucket];
+		bucketHeads[bucket] = entryCount;
+		entryCount++;
+	}
+
+	private void prepareTable(int actorCount) {
+		int tableSize = Math.max(MINIMUM_TABLE_SIZE, Integer.highestOneBit(Math.max(1, actorCount * 2) - 1) << 1);
+		if (bucketHeads.length != tableSize) {
+			bucketHeads = new int[tableSize];
+		}
+		Arrays.fill(bucketHeads, EMPTY);
+		if (visitStamps.length < actorCount) {
+			visitStamps = new int[tableSize];
+			currentStamp = 0;
+		}
+	}
+
+	private void nextStamp() {
+		if (currentStamp == Integer.MAX_VALUE) {
+			Arrays.fill(visitStamps, 0);
+			currentStamp = 0;
+		}
+		currentStamp++;
+	}
+
+	private int cell(double coordinate) {
+		return (int) Math.floor(coordinate / cellSize);
+	}
+
+	private int bucket(int cellX, int cellY) {
+		return ((cellX * X_PRIME) ^ (cellY * Y_PRIME)) & (bucketHeads.length - 1);
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.example.demo;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+public final class SpriteAtlas {
+
+	public static final String IMAGE_PATH = "/com/example/demo/atlas/sprites.png";
+	static final String INDEX_PATH = "/com/example/demo/atlas/sprites.idx";
+	static final int MAGIC = 0x534B5941;
+	static final int VERSION = 1;
+	private static final boolean ENABLED = GameConfig.getBoolean("atlas", true);
+	private static final Map<RegionKey, Region> regions = new HashMap<>();
+
+	static {
+		if (ENABLED) {
+			load();
+		}
+	}
+
+	private SpriteAtlas() {
+	}
+
+	public static Region find(String resourcePath, int height) {
+		return regions.get(new RegionKey(resourcePath, height));
+	}
+
+	public static Image getImage() {
+		return SpriteCache.getImage(IMAGE_PATH);
+	}
+
+	public static Image load(SpriteCache.Request sprite) {
+		return find(sprite) == null ? SpriteCache.getImage(sprite) : getImage();
+	}
+
+	public static void show(ImageView view, SpriteCache.Request sprite) {
+		Region region = find(sprite);
+		if (region == null) {
+			view.setImage(SpriteCache.getImage(sprite));
+			view.setViewport(null);
+		} else {
+			view.setImage(getImage());
+			view.setViewport(region.toViewport());
+		}
+	}
+
+	private static Region find(SpriteCache.Request sprite) {
+		return find(sprite.resourcePath(), (int) sprite.height());
+	}
+
+	private static void load() {
+		try (InputStream stream = SpriteAtlas.class.getResourceAsStream(INDEX_PATH)) {
+			if (stream == null) {
+				return;
+			}
+			DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+			if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+				throw new IllegalStateException("Unsupported sprite atlas index: " + INDEX_PATH);
+			}
+			int count = in.readUnsignedShort();
+			for (int i = 0; i < count; i++) {
+				String path = in.readUTF();
+				Region region = new Region(in.readUnsignedShort(), in.readUnsignedShort(), in.readUnsignedShort(),
+						in.readUnsignedShort());
+				regions.put(new RegionKey(path, region.height()), region);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public record Region(int x, int y, int width, int height) {
+
+		public Rectangle2D toViewport() {
+			return new Rectangle2D(x, y, width, height);
+		}
+
+	}
+
+	private record RegionKey(String resourcePath, int height) {
+	}
+
+}
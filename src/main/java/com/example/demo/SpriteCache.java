@@ -0,0 +1,241 @@
+package com.example.demo;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.scene.image.Image;
+
+public final class SpriteCache {
+
+	private static final System.Logger LOGGER = System.getLogger(SpriteCache.class.getName());
+	private static final int INITIAL_CAPACITY = 64;
+	private static final float LOAD_FACTOR = 0.75f;
+	private static final int BYTES_PER_PIXEL = 4;
+	private static final long BYTES_PER_MIB = 1024 * 1024;
+	public static final double NATURAL_SIZE = 0;
+	private static final long BUDGET_BYTES = GameConfig.getLong("imageBudgetMiB", 64) * BYTES_PER_MIB;
+
+	private static final Map<Request, ImageReference> images = new HashMap<>(INITIAL_CAPACITY);
+	private static final Map<Request, Image> retained = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+	private static final ReferenceQueue<Image> collected = new ReferenceQueue<>();
+	private static final Map<Request, CompletableFuture<Image>> decoding = new ConcurrentHashMap<>();
+
+	private static long hits;
+	private static long misses;
+	private static long evictions;
+	private static long bytes;
+	private static long retainedBytes;
+	private static long peakBytes;
+
+	private SpriteCache() {
+	}
+
+	public static Image getImage(String resourcePath) {
+		return getImage(resourcePath, NATURAL_SIZE, NATURAL_SIZE);
+	}
+
+	public static Image getImage(String resourcePath, double width, double height) {
+		return getImage(new Request(resourcePath, width, height));
+	}
+
+	public static Image getImage(Request request) {
+		Image image = lookup(request);
+		if (image != null) {
+			return image;
+		}
+		CompletableFuture<Image> decoded = new CompletableFuture<>();
+		CompletableFuture<Image> pending = decoding.putIfAbsent(request, decoded);
+		if (pending != null) {
+			return await(pending);
+		}
+		try {
+			image = lookup(request);
+			if (image == null) {
+				image = decode(request);
+				store(request, image);
+			}
+			decoded.complete(image);
+			return image;
+		} catch (RuntimeException e) {
+			decoded.completeExceptionally(e);
+			throw e;
+		} finally {
+			decoding.remove(request, decoded);
+		}
+	}
+
+	private static synchronized Image lookup(Request request) {
+		drainCollected();
+		ImageReference reference = images.get(request);
+		Image image = reference == null ? null : reference.get();
+		if (image != null) {
+			hits++;
+			retain(request, image);
+		}
+		return image;
+	}
+
+	private static synchronized void store(Request request, Image image) {
+		misses++;
+		ImageReference reference = new ImageReference(request, image, collected);
+		images.put(request, reference);
+		bytes += reference.bytes;
+		peakBytes = Math.max(peakBytes, bytes);
+		retain(request, image);
+		if (reference.bytes > BUDGET_BYTES) {
+			LOGGER.log(System.Logger.Level.WARNING,
+					"{0} decodes to {1} KiB, over the {2} KiB image budget, and is not retained",
+					request.resourcePath(), reference.bytes / 1024, BUDGET_BYTES / 1024);
+		} else if (bytes > BUDGET_BYTES) {
+			LOGGER.log(System.Logger.Level.WARNING,
+					"Decoding {0} leaves {1} KiB of images reachable, over the {2} KiB image budget",
+					request.resourcePath(), bytes / 1024, BUDGET_BYTES / 1024);
+		}
+	}
+
+	private static Image await(CompletableFuture<Image> pending) {
+		try {
+			return pending.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	public static synchronized long getHits() {
+		return hits;
+	}
+
+	public static synchronized long getMisses() {
+		return misses;
+	}
+
+	public static synchronized long getEvictions() {
+		return evictions;
+	}
+
+	public static synchronized long getBytes() {
+		drainCollected();
+		return bytes;
+	}
+
+	public static synchronized long getRetainedBytes() {
+		return retainedBytes;
+	}
+
+	public static synchronized long getPeakBytes() {
+		return peakBytes;
+	}
+
+	public static long getBudgetBytes() {
+		return BUDGET_BYTES;
+	}
+
+	public static synchronized int size() {
+		drainCollected();
+		return images.size();
+	}
+
+	public static synchronized List<AssetUsage> getUsage() {
+		drainCollected();
+		List<AssetUsage> usage = new ArrayList<>(images.size());
+		for (Map.Entry<Request, ImageReference> entry : images.entrySet()) {
+			Image image = entry.getValue().get();
+			if (image != null) {
+				usage.add(new AssetUsage(entry.getKey().resourcePath(), (int) image.getWidth(),
+						(int) image.getHeight(), entry.getValue().bytes, retained.containsKey(entry.getKey())));
+			}
+		}
+		usage.sort(Comparator.comparingLong(AssetUsage::bytes).reversed());
+		return usage;
+	}
+
+	public static synchronized void clear() {
+		retained.clear();
+		retainedBytes = 0;
+	}
+
+	private static void retain(Request request, Image image) {
+		if (decodedBytes(image) > BUDGET_BYTES) {
+			return;
+		}
+		if (retained.put(request, image) == null) {
+			retainedBytes += decodedBytes(image);
+		}
+		Iterator<Map.Entry<Request, Image>> eldest = retained.entrySet().iterator();
+		while (retainedBytes > BUDGET_BYTES && eldest.hasNext()) {
+			Map.Entry<Request, Image> entry = eldest.next();
+			retainedBytes -= decodedBytes(entry.getValue());
+			evictions++;
+			eldest.remove();
+		}
+	}
+
+	private static void drainCollected() {
+		Reference<? extends Image> reference;
+		while ((reference = collected.poll()) != null) {
+			ImageReference image = (ImageReference) reference;
+			bytes -= image.bytes;
+			images.remove(image.request, image);
+		}
+	}
+
+	private static Image decode(Request request) {
+		URL resource = SpriteCache.class.getResource(request.resourcePath());
+		if (resource == null) {
+			throw new IllegalArgumentException("Missing sprite resource: " + request.resourcePath());
+		}
+		boolean preserveRatio = request.width() == NATURAL_SIZE || request.height() == NATURAL_SIZE;
+		return new Image(resource.toExternalForm(), request.width(), request.height(), preserveRatio, true);
+	}
+
+	private static long decodedBytes(Image image) {
+		return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+	}
+
+	public record Request(String resourcePath, double width, double height) {
+
+		public static Request ofHeight(String resourcePath, double height) {
+			return new Request(resourcePath, NATURAL_SIZE, height);
+		}
+
+	}
+
+	public record AssetUsage(String resourcePath, int width, int height, long bytes, boolean cached) {
+
+		@Override
+		public String toString() {
+			return String.format("%-40s %5dx%-5d %7d KiB%s", resourcePath, width, height, bytes / 1024,
+					cached ? "" : " (in use, evicted)");
+		}
+
+	}
+
+	private static final class ImageReference extends WeakReference<Image> {
+
+		private final Request request;
+		private final long bytes;
+
+		ImageReference(Request request, Image image, ReferenceQueue<Image> queue) {
+			super(image, queue);
+			this.request = request;
+			this.bytes = decodedBytes(image);
+		}
+
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+import java.util.Set;
+
+public final class SpriteManifest {
+
+	public static final String PATH = "/com/example/demo/atlas/sprites.properties";
+	public static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	private static final String SIZE_SEPARATOR = "x";
+	private static final int NATURAL_WIDTH = 0;
+	private static final Properties sizes = load();
+
+	private SpriteManifest() {
+	}
+
+	public static int getImageHeight(String imageName) {
+		return getHeight(IMAGE_LOCATION + imageName);
+	}
+
+	public static int getHeight(String resourcePath) {
+		return Integer.parseInt(getSize(resourcePath)[0]);
+	}
+
+	public static int getWidth(String resourcePath) {
+		String[] size = getSize(resourcePath);
+		return size.length > 1 ? Integer.parseInt(size[1]) : NATURAL_WIDTH;
+	}
+
+	public static Set<String> getPaths() {
+		return sizes.stringPropertyNames();
+	}
+
+	private static String[] getSize(String resourcePath) {
+		String size = sizes.getProperty(resourcePath);
+		if (size == null) {
+			throw new IllegalArgumentException("Sprite missing from " + PATH + ": " + resourcePath);
+		}
+		return size.trim().split(SIZE_SEPARATOR);
+	}
+
+	private static Properties load() {
+		Properties properties = new Properties();
+		try (InputStream stream = SpriteManifest.class.getResourceAsStream(PATH)) {
+			if (stream == null) {
+				throw new IllegalStateException("Missing sprite manifest: " + PATH);
+			}
+			properties.load(stream);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return properties;
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.example.demo;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class SpriteMetrics {
+
+	private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+	private static final int IHDR_CHUNK_TYPE = 0x49484452;
+	private static final ConcurrentMap<String, double[]> sizes = new ConcurrentHashMap<>();
+
+	private SpriteMetrics() {
+	}
+
+	public static double getScaledWidth(String resourcePath, double height) {
+		double[] size = sizes.computeIfAbsent(resourcePath, SpriteMetrics::readSize);
+		return height * size[0] / size[1];
+	}
+
+	private static double[] readSize(String resourcePath) {
+		try (InputStream stream = SpriteMetrics.class.getResourceAsStream(resourcePath)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Missing sprite resource: " + resourcePath);
+			}
+			DataInputStream data = new DataInputStream(stream);
+			if (data.readLong() != PNG_SIGNATURE) {
+				throw new IllegalArgumentException("Sprite is not a PNG: " + resourcePath);
+			}
+			data.readInt();
+			if (data.readInt() != IHDR_CHUNK_TYPE) {
+				throw new IllegalArgumentException("Sprite has no IHDR header: " + resourcePath);
+			}
+			return new double[] { data.readInt(), data.readInt() };
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
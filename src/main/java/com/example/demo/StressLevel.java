@@ -0,0 +1,83 @@
+package com.example.demo;
+
+import java.util.List;
+
+import javafx.scene.Group;
+
+public class StressLevel extends LevelParent {
+
+	private static final String BACKGROUND_IMAGE_NAME = "/com/example/demo/images/background1.jpg";
+	private static final int PLAYER_INITIAL_HEALTH = 1_000_000;
+	private static final int HEARTS_TO_DISPLAY = 5;
+	private static final int DEFAULT_TARGET_ENEMIES = 500;
+	private static final int DEFAULT_TARGET_PROJECTILES = 2000;
+	private final int targetEnemies;
+	private final int targetProjectiles;
+
+	public StressLevel(double screenHeight, double screenWidth) {
+		this(screenHeight, screenWidth, GameRandom.configuredSeed());
+	}
+
+	public StressLevel(double screenHeight, double screenWidth, long seed) {
+		this(screenHeight, screenWidth, GameConfig.getInt("stress.enemies", DEFAULT_TARGET_ENEMIES),
+				GameConfig.getInt("stress.projectiles", DEFAULT_TARGET_PROJECTILES), seed);
+	}
+
+	public StressLevel(double screenHeight, double screenWidth, int targetEnemies, int targetProjectiles) {
+		this(screenHeight, screenWidth, targetEnemies, targetProjectiles, GameRandom.configuredSeed());
+	}
+
+	public StressLevel(double screenHeight, double screenWidth, int targetEnemies, int targetProjectiles, long seed) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, seed);
+		this.targetEnemies = targetEnemies;
+		this.targetProjectiles = targetProjectiles;
+		getPools().getEnemyPlanes().ensureCapacity(targetEnemies);
+		getPools().getUserProjectiles().ensureCapacity(targetProjectiles);
+		getPools().getEnemyProjectiles().ensureCapacity(targetProjectiles);
+	}
+
+	@Override
+	protected void checkIfGameOver() {
+		if (userIsDestroyed()) {
+			loseGame();
+		}
+	}
+
+	@Override
+	protected void spawnEnemyUnits(double deltaSeconds) {
+		for (int i = getCurrentNumberOfEnemies(); i < targetEnemies; i++) {
+			addEnemyUnit(getPools().acquireEnemyPlane(getScreenWidth(), randomY()));
+		}
+		List<ActiveActorDestructible> userProjectiles = getUserProjectiles();
+		List<ActiveActorDestructible> enemyProjectiles = getEnemyProjectiles();
+		while (userProjectiles.size() + enemyProjectiles.size() < targetProjectiles) {
+			if (userProjectiles.size() <= enemyProjectiles.size()) {
+				userProjectiles.add(getPools().getUserProjectiles().acquire(randomX(), randomY()));
+			} else {
+				enemyProjectiles.add(getPools().getEnemyProjectiles().acquire(randomX(), randomY()));
+			}
+		}
+	}
+
+	@Override
+	protected LevelView instantiateLevelView(Group root) {
+		return new LevelView(root, HEARTS_TO_DISPLAY);
+	}
+
+	public int getTargetEnemies() {
+		return targetEnemies;
+	}
+
+	public int getTargetProjectiles() {
+		return targetProjectiles;
+	}
+
+	private double randomX() {
+		return getRandom().nextDouble(getScreenWidth());
+	}
+
+	private double randomY() {
+		return getRandom().nextDouble(getEnemyMaximumYPosition());
+	}
+
+}
@@ -0,0 +1,145 @@
+package com.example.demo;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.LockSupport;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+public class ThreadedGameLoop implements FrameDriver {
+
+	private static final System.Logger LOGGER = System.getLogger(ThreadedGameLoop.class.getName());
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	private static final long JOIN_TIMEOUT_MILLIS = 1000;
+	private static final String THREAD_NAME = "skybattle-simulation";
+	private static final Executor FX_EXECUTOR = Platform::runLater;
+	private final LevelParent level;
+	private final long stepNanos;
+	private final int maxStepsPerFrame;
+	private final FrameListener listener;
+	private final SnapshotExchange exchange;
+	private final AnimationTimer renderTimer;
+	private volatile boolean running;
+	private volatile long droppedSteps;
+	private Thread thread;
+
+	public ThreadedGameLoop(LevelParent level, int maxStepsPerFrame, FrameListener listener) {
+		this.level = level;
+		this.stepNanos = NANOS_PER_SECOND / level.getTickRate();
+		this.maxStepsPerFrame = maxStepsPerFrame;
+		this.listener = listener;
+		this.exchange = new SnapshotExchange();
+		this.renderTimer = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				render();
+			}
+		};
+		exchange.getBackBuffer().capture(level, System.nanoTime());
+		exchange.publish();
+	}
+
+	@Override
+	public void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+		thread = new Thread(this::simulate, THREAD_NAME);
+		thread.setDaemon(true);
+		thread.start();
+		renderTimer.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		renderTimer.stop();
+		Thread simulation = thread;
+		thread = null;
+		if (simulation == null || simulation == Thread.currentThread()) {
+			return;
+		}
+		boolean interrupted = false;
+		while (simulation.isAlive()) {
+			LockSupport.unpark(simulation);
+			try {
+				simulation.join(JOIN_TIMEOUT_MILLIS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+				continue;
+			}
+			if (simulation.isAlive()) {
+				LOGGER.log(System.Logger.Level.WARNING, "Simulation thread still running {0} ms after stop",
+						JOIN_TIMEOUT_MILLIS);
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void simulate() {
+		long nextStep = System.nanoTime();
+		try {
+			while (running) {
+				long now = System.nanoTime();
+				int steps = 0;
+				while (running && now - nextStep >= 0 && steps < maxStepsPerFrame) {
+					level.tick();
+					nextStep += stepNanos;
+					steps++;
+				}
+				if (now - nextStep >= stepNanos) {
+					droppedSteps += (now - nextStep) / stepNanos;
+					nextStep = now;
+				}
+				if (steps > 0) {
+					exchange.getBackBuffer().capture(level, System.nanoTime());
+					exchange.publish();
+				}
+				LockSupport.parkNanos(nextStep - System.nanoTime());
+			}
+		} catch (RuntimeException | Error e) {
+			running = false;
+			LOGGER.log(System.Logger.Level.ERROR, "Simulation thread stopped", e);
+			Thread failed = Thread.currentThread();
+			FX_EXECUTOR.execute(() -> onSimulationFailed(failed, e));
+		}
+	}
+
+	private void onSimulationFailed(Thread failed, Throwable cause) {
+		if (thread == failed) {
+			thread = null;
+			renderTimer.stop();
+		}
+		throw new IllegalStateException("Simulation thread stopped at tick " + level.getTickCount(), cause);
+	}
+
+	private void render() {
+		WorldSnapshot snapshot = exchange.acquire();
+		double alpha = Math.min(1, (double) (System.nanoTime() - snapshot.getCapturedNanos()) / stepNanos);
+		listener.render(snapshot, alpha);
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public long getDroppedSteps() {
+		return droppedSteps;
+	}
+
+	@Override
+	public Executor getListenerExecutor() {
+		return FX_EXECUTOR;
+	}
+
+	@Override
+	public boolean isThreaded() {
+		return true;
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.example.demo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.example.demo.TickProfile")
+@Label("Game Tick Profile")
+@Category("Sky Battle")
+@Description("Per-phase timings and actor counts of one simulation tick")
+public class TickProfileEvent extends jdk.jfr.Event {
+
+	@Label("Level")
+	String level;
+
+	@Label("Tick")
+	long tick;
+
+	@Label("Actors")
+	int actorCount;
+
+	@Label("Spawn")
+	@Timespan
+	long spawnNanos;
+
+	@Label("Update")
+	@Timespan
+	long updateNanos;
+
+	@Label("Enemy Fire")
+	@Timespan
+	long enemyFireNanos;
+
+	@Label("Collisions")
+	@Timespan
+	long collisionNanos;
+
+	@Label("Cleanup")
+	@Timespan
+	long cleanupNanos;
+
+	@Label("Game Over Check")
+	@Timespan
+	long gameOverCheckNanos;
+
+	@Label("Tick Duration")
+	@Timespan
+	long tickNanos;
+
+}
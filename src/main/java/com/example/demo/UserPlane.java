@@ -7,23 +7,26 @@ public class UserPlane extends FighterPlane {
 	private static final double Y_LOWER_BOUND = 600.0;
 	private static final double INITIAL_X_POSITION = 5.0;
 	private static final double INITIAL_Y_POSITION = 300.0;
-	private static final int IMAGE_HEIGHT = 150;
-	private static final int VERTICAL_VELOCITY = 8;
+	private static final int IMAGE_HEIGHT = SpriteManifest.getImageHeight(IMAGE_NAME);
+	private static final double VERTICAL_VELOCITY = 160;
 	private static final int PROJECTILE_X_POSITION = 110;
 	private static final int PROJECTILE_Y_POSITION_OFFSET = 20;
+	private static final double FIRE_COOLDOWN_SECONDS = GameConfig.getDouble("userFireCooldown", .25);
+	private static final double COOLDOWN_EPSILON = 1e-9;
 	private int velocityMultiplier;
+	private double secondsUntilReady;
 	private int numberOfKills;
 
-	public UserPlane(int initialHealth) {
-		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
+	public UserPlane(int initialHealth, GameRandom random) {
+		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth, random);
 		velocityMultiplier = 0;
 	}
 	
 	@Override
-	public void updatePosition() {
+	public void updatePosition(double deltaSeconds) {
 		if (isMoving()) {
 			double initialTranslateY = getTranslateY();
-			this.moveVertically(VERTICAL_VELOCITY * velocityMultiplier);
+			this.moveVertically(VERTICAL_VELOCITY * velocityMultiplier * deltaSeconds);
 			double newPosition = getLayoutY() + getTranslateY();
 			if (newPosition < Y_UPPER_BOUND || newPosition > Y_LOWER_BOUND) {
 				this.setTranslateY(initialTranslateY);
@@ -32,19 +35,33 @@ public class UserPlane extends FighterPlane {
 	}
 	
 	@Override
-	public void updateActor() {
-		updatePosition();
+	public void updateActor(double deltaSeconds) {
+		updatePosition(deltaSeconds);
+		secondsUntilReady = Math.max(0, secondsUntilReady - deltaSeconds);
 	}
 	
-	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return new UserProjectile(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+	public ActiveActorDestructible fireProjectile(ActorPools pools) {
+		if (secondsUntilReady > COOLDOWN_EPSILON) {
+			return null;
+		}
+		secondsUntilReady = FIRE_COOLDOWN_SECONDS;
+		return pools.getUserProjectiles().acquire(PROJECTILE_X_POSITION, getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
 	}
 
 	private boolean isMoving() {
 		return velocityMultiplier != 0;
 	}
 
+	public void steer(boolean up, boolean down) {
+		if (up == down) {
+			stop();
+		} else if (up) {
+			moveUp();
+		} else {
+			moveDown();
+		}
+	}
+
 	public void moveUp() {
 		velocityMultiplier = -1;
 	}
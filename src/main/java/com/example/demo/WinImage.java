@@ -1,6 +1,5 @@
 package com.example.demo;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 public class WinImage extends ImageView {
@@ -10,7 +9,7 @@ public class WinImage extends ImageView {
 	private static final int WIDTH = 600;
 	
 	public WinImage(double xPosition, double yPosition) {
-		this.setImage(new Image(getClass().getResource(IMAGE_NAME).toExternalForm()));
+		this.setImage(SpriteCache.getImage(IMAGE_NAME, WIDTH, HEIGHT));
 		this.setVisible(false);
 		this.setFitHeight(HEIGHT);
 		this.setFitWidth(WIDTH);
@@ -0,0 +1,158 @@
+package com.example.demo;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class WorldSnapshot {
+
+	private static final int INITIAL_CAPACITY = 64;
+	private ActiveActorDestructible[] actors;
+	private double[] actorPreviousX;
+	private double[] actorPreviousY;
+	private double[] actorX;
+	private double[] actorY;
+	private int actorCount;
+	private double[] bulletPreviousX;
+	private double[] bulletPreviousY;
+	private double[] bulletX;
+	private double[] bulletY;
+	private int bulletCount;
+	private final ProfileWindow profile;
+	private String bulletImagePath;
+	private int bulletImageHeight;
+	private long tick;
+	private volatile long sequence;
+	private long capturedNanos;
+
+	public WorldSnapshot() {
+		this.actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+		this.actorPreviousX = new double[INITIAL_CAPACITY];
+		this.actorPreviousY = new double[INITIAL_CAPACITY];
+		this.actorX = new double[INITIAL_CAPACITY];
+		this.actorY = new double[INITIAL_CAPACITY];
+		this.bulletPreviousX = new double[INITIAL_CAPACITY];
+		this.bulletPreviousY = new double[INITIAL_CAPACITY];
+		this.bulletX = new double[INITIAL_CAPACITY];
+		this.bulletY = new double[INITIAL_CAPACITY];
+		this.profile = new ProfileWindow();
+	}
+
+	public WorldSnapshot capture(LevelParent level, long nanos) {
+		actorCount = 0;
+		captureActors(level.getFriendlyUnits());
+		captureActors(level.getEnemyUnits());
+		captureActors(level.getUserProjectiles());
+		captureActors(level.getEnemyProjectiles());
+		Arrays.fill(actors, actorCount, actors.length, null);
+		captureBullets(level.getBossBullets());
+		level.getProfiler().copyWindowTo(profile);
+		tick = level.getTickCount();
+		capturedNanos = nanos;
+		return this;
+	}
+
+	private void captureActors(List<ActiveActorDestructible> list) {
+		ensureActorCapacity(actorCount + list.size());
+		for (int i = 0; i < list.size(); i++) {
+			ActiveActorDestructible actor = list.get(i);
+			int slot = actorCount++;
+			actors[slot] = actor;
+			actorPreviousX[slot] = actor.getLayoutX() + actor.getInterpolatedTranslateX(0);
+			actorPreviousY[slot] = actor.getLayoutY() + actor.getInterpolatedTranslateY(0);
+			actorX[slot] = actor.getX();
+			actorY[slot] = actor.getY();
+		}
+	}
+
+	private void captureBullets(BulletField bullets) {
+		bulletCount = bullets.size();
+		bulletImagePath = bullets.getImagePath();
+		bulletImageHeight = bullets.getImageHeight();
+		if (bulletCount > bulletX.length) {
+			int capacity = Math.max(bulletCount, bulletX.length * 2);
+			bulletPreviousX = Arrays.copyOf(bulletPreviousX, capacity);
+			bulletPreviousY = Arrays.copyOf(bulletPreviousY, capacity);
+			bulletX = Arrays.copyOf(bulletX, capacity);
+			bulletY = Arrays.copyOf(bulletY, capacity);
+		}
+		for (int i = 0; i < bulletCount; i++) {
+			bulletPreviousX[i] = bullets.getInterpolatedX(i, 0);
+			bulletPreviousY[i] = bullets.getInterpolatedY(i, 0);
+			bulletX[i] = bullets.getInterpolatedX(i, 1);
+			bulletY[i] = bullets.getInterpolatedY(i, 1);
+		}
+	}
+
+	private void ensureActorCapacity(int required) {
+		if (required <= actors.length) {
+			return;
+		}
+		int capacity = Math.max(required, actors.length * 2);
+		actors = Arrays.copyOf(actors, capacity);
+		actorPreviousX = Arrays.copyOf(actorPreviousX, capacity);
+		actorPreviousY = Arrays.copyOf(actorPreviousY, capacity);
+		actorX = Arrays.copyOf(actorX, capacity);
+		actorY = Arrays.copyOf(actorY, capacity);
+	}
+
+	public int getActorCount() {
+		return actorCount;
+	}
+
+	public ActiveActorDestructible getActor(int i) {
+		return actors[i];
+	}
+
+	public double getActorX(int i, double alpha) {
+		return actorPreviousX[i] + (actorX[i] - actorPreviousX[i]) * alpha;
+	}
+
+	public double getActorY(int i, double alpha) {
+		return actorPreviousY[i] + (actorY[i] - actorPreviousY[i]) * alpha;
+	}
+
+	public int getBulletCount() {
+		return bulletCount;
+	}
+
+	public double getBulletX(int i, double alpha) {
+		return bulletPreviousX[i] + (bulletX[i] - bulletPreviousX[i]) * alpha;
+	}
+
+	public double getBulletY(int i, double alpha) {
+		return bulletPreviousY[i] + (bulletY[i] - bulletPreviousY[i]) * alpha;
+	}
+
+	public String getBulletImagePath() {
+		return bulletImagePath;
+	}
+
+	public int getBulletImageHeight() {
+		return bulletImageHeight;
+	}
+
+	public ProfileWindow getProfile() {
+		return profile;
+	}
+
+	public long getTick() {
+		return tick;
+	}
+
+	long getSequence() {
+		return sequence;
+	}
+
+	void setSequence(long sequence) {
+		this.sequence = sequence;
+	}
+
+	public long getCapturedNanos() {
+		return capturedNanos;
+	}
+
+	public int getTotalCount() {
+		return actorCount + bulletCount;
+	}
+
+}
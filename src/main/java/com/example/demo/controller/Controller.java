@@ -1,48 +1,117 @@
 package com.example.demo.controller;
 
-import java.lang.reflect.Constructor;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Observable;
-import java.util.Observer;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.stage.Stage;
+import com.example.demo.GameConfig;
+import com.example.demo.InputRecorder;
+import com.example.demo.LevelEndEvent;
 import com.example.demo.LevelParent;
+import com.example.demo.LevelState;
+import com.example.demo.SpriteCache;
 
-public class Controller implements Observer {
+public class Controller {
 
 	private static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.LevelOne";
+	private static final System.Logger LOGGER = System.getLogger(Controller.class.getName());
+	private static final double NANOS_PER_MILLISECOND = 1e6;
 	private final Stage stage;
+	private final StartupProbe startupProbe;
+	private LevelParent currentLevel;
+	private LevelPreloader preloader;
 
 	public Controller(Stage stage) {
 		this.stage = stage;
+		this.startupProbe = new StartupProbe();
 	}
 
 	public void launchGame() throws ClassNotFoundException, NoSuchMethodException, SecurityException,
 			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException  {
 
 			stage.show();
+			preloader = new LevelPreloader(stage.getHeight(), stage.getWidth());
 			goToLevel(LEVEL_ONE_CLASS_NAME);
 	}
 
 	private void goToLevel(String className) throws ClassNotFoundException, NoSuchMethodException, SecurityException,
 			InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-			Class<?> myClass = Class.forName(className);
-			Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
-			LevelParent myLevel = (LevelParent) constructor.newInstance(stage.getHeight(), stage.getWidth());
-			myLevel.addObserver(this);
+			long transitionStart = System.nanoTime();
+			LevelParent myLevel = preloader.take(className);
+			disposeCurrentLevel();
+			currentLevel = myLevel;
+			attachInputRecorder(myLevel);
 			Scene scene = myLevel.initializeScene();
+			myLevel.getEventBus().subscribe(LevelEndEvent.class, this::onLevelEnd, myLevel.getListenerExecutor());
 			stage.setScene(scene);
-			myLevel.startGame();
+			myLevel.setOnFirstFrame(() -> recordTransition(className, System.nanoTime() - transitionStart));
+			myLevel.start();
+			preloader.preload(myLevel.getNextLevelName());
+	}
+
+	private void disposeCurrentLevel() {
+		if (currentLevel != null) {
+			currentLevel.dispose();
+			currentLevel = null;
+		}
+	}
+
+	private void attachInputRecorder(LevelParent level) {
+		String recordDir = GameConfig.getString("recordDir", null);
+		if (recordDir == null) {
+			return;
+		}
+		try {
+			InputRecorder recorder = InputRecorder.forLevel(Path.of(recordDir), level);
+			level.setInputRecorder(recorder);
+			LOGGER.log(System.Logger.Level.INFO, "Recording input to {0}", recorder.getPath());
+		} catch (IOException e) {
+			LOGGER.log(System.Logger.Level.WARNING, "Could not start input recording", e);
+		}
+	}
 
+	private void recordTransition(String className, long nanos) {
+		startupProbe.onFirstFrame();
+		LOGGER.log(System.Logger.Level.INFO,
+				() -> String.format("Transition to %s took %.1f ms", className, nanos / NANOS_PER_MILLISECOND));
+		LOGGER.log(System.Logger.Level.DEBUG, () -> String.format("Decoded images %d of %d KiB:%n%s",
+				SpriteCache.getBytes() / 1024, SpriteCache.getBudgetBytes() / 1024,
+				SpriteCache.getUsage().stream().map(Object::toString).collect(Collectors.joining(System.lineSeparator()))));
 	}
 
-	@Override
-	public void update(Observable arg0, Object arg1) {
+	LevelParent getCurrentLevel() {
+		return currentLevel;
+	}
+
+	public void shutdown() {
+		disposeCurrentLevel();
+		if (preloader != null) {
+			preloader.shutdown();
+			preloader = null;
+		}
+	}
+
+	private void onLevelEnd(LevelEndEvent event) {
+		LevelParent level = event.getLevel();
+		String nextLevelName = event.getNextLevelName();
+		if (event.getState() != LevelState.ADVANCED || nextLevelName == null) {
+			return;
+		}
+		Platform.runLater(() -> advance(level, nextLevelName));
+	}
+
+	private void advance(LevelParent level, String nextLevelName) {
+		if (level != currentLevel) {
+			return;
+		}
 		try {
-			goToLevel((String) arg1);
+			goToLevel(nextLevelName);
 		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | InstantiationException
 				| IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
 			Alert alert = new Alert(AlertType.ERROR);
@@ -0,0 +1,87 @@
+package com.example.demo.controller;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+class GcCollectionMonitor implements NotificationListener, AutoCloseable {
+
+	private static final String GC_NOTIFICATION = "com.sun.management.gc.notification";
+	private final List<NotificationEmitter> emitters;
+	private final long startCount;
+	private final long startTimeMillis;
+	private volatile long maxCollectionMillis;
+
+	GcCollectionMonitor() {
+		this.emitters = new ArrayList<>();
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			if (bean instanceof NotificationEmitter emitter) {
+				emitter.addNotificationListener(this, null, null);
+				emitters.add(emitter);
+			}
+		}
+		this.startCount = totalCount();
+		this.startTimeMillis = totalTimeMillis();
+	}
+
+	@Override
+	public void handleNotification(Notification notification, Object handback) {
+		if (!GC_NOTIFICATION.equals(notification.getType())
+				|| !(notification.getUserData() instanceof CompositeData data)) {
+			return;
+		}
+		Object gcInfo = data.get("gcInfo");
+		if (gcInfo instanceof CompositeData info && info.get("duration") instanceof Long duration) {
+			synchronized (this) {
+				maxCollectionMillis = Math.max(maxCollectionMillis, duration);
+			}
+		}
+	}
+
+	long getCollections() {
+		return totalCount() - startCount;
+	}
+
+	long getTotalCollectionMillis() {
+		return totalTimeMillis() - startTimeMillis;
+	}
+
+	long getMaxCollectionMillis() {
+		return maxCollectionMillis;
+	}
+
+	@Override
+	public void close() {
+		for (NotificationEmitter emitter : emitters) {
+			try {
+				emitter.removeNotificationListener(this);
+			} catch (ListenerNotFoundException e) {
+				// already removed
+			}
+		}
+	}
+
+	private static long totalCount() {
+		long count = 0;
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, bean.getCollectionCount());
+		}
+		return count;
+	}
+
+	private static long totalTimeMillis() {
+		long time = 0;
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			time += Math.max(0, bean.getCollectionTime());
+		}
+		return time;
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.example.demo.controller;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.nio.file.Path;
+
+import com.example.demo.InputReplay;
+import com.example.demo.LevelParent;
+import com.example.demo.LevelState;
+
+public final class HeadlessRunner {
+
+	private static final String DEFAULT_LEVEL_CLASS_NAME = "com.example.demo.LevelOne";
+	private static final String REPLAY_OPTION = "--replay";
+	private static final long DEFAULT_TICKS = 10_000;
+	private static final int SCREEN_WIDTH = 1300;
+	private static final int SCREEN_HEIGHT = 750;
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	private HeadlessRunner() {
+	}
+
+	public static void main(String[] args) throws ReflectiveOperationException, IOException {
+		if (args.length > 1 && REPLAY_OPTION.equals(args[0])) {
+			replay(Path.of(args[1]), args.length > 2 ? Long.parseLong(args[2]) : Long.MAX_VALUE);
+			return;
+		}
+		String className = args.length > 0 ? args[0] : DEFAULT_LEVEL_CLASS_NAME;
+		long ticks = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_TICKS;
+		LevelParent level = createLevel(className);
+		long start = System.nanoTime();
+		while (level.getTickCount() < ticks && level.getState() == LevelState.RUNNING) {
+			level.tick();
+		}
+		report(className, level, System.nanoTime() - start);
+	}
+
+	static LevelParent replay(Path path, long maxTicks) throws ReflectiveOperationException, IOException {
+		try (InputReplay replay = new InputReplay(path)) {
+			LevelParent level = createLevel(replay.getLevelClassName(), replay.getSeed());
+			long start = System.nanoTime();
+			while (!replay.isFinished() && level.getTickCount() < maxTicks
+					&& level.getState() == LevelState.RUNNING) {
+				replay.applyDueInputs(level);
+				level.tick();
+			}
+			long elapsed = System.nanoTime() - start;
+			System.out.printf("replay %s: seed=%d inputs=%d%n", path, replay.getSeed(), replay.getEventCount());
+			report(replay.getLevelClassName(), level, elapsed);
+			return level;
+		}
+	}
+
+	private static void report(String className, LevelParent level, long elapsed) {
+		System.out.printf("%s: %d ticks in %.1f ms (%.0f ticks/s)%n", className, level.getTickCount(),
+				elapsed / 1e6, level.getTickCount() * NANOS_PER_SECOND / Math.max(1, elapsed));
+		System.out.printf("state=%s health=%d kills=%d actors=%d%n", level.getState(), level.getUser().getHealth(),
+				level.getUser().getNumberOfKills(), level.getActorCount());
+		level.getActorTypeCounts().forEach(System.out::println);
+	}
+
+	static LevelParent createLevel(String className) throws ReflectiveOperationException {
+		Class<?> levelClass = Class.forName(className);
+		Constructor<?> constructor = levelClass.getConstructor(double.class, double.class);
+		return (LevelParent) constructor.newInstance((double) SCREEN_HEIGHT, (double) SCREEN_WIDTH);
+	}
+
+	static LevelParent createLevel(String className, long seed) throws ReflectiveOperationException {
+		Class<?> levelClass = Class.forName(className);
+		Constructor<?> constructor = levelClass.getConstructor(double.class, double.class, long.class);
+		return (LevelParent) constructor.newInstance((double) SCREEN_HEIGHT, (double) SCREEN_WIDTH, seed);
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.example.demo.controller;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.example.demo.LevelParent;
+
+public class LevelPreloader {
+
+	private static final String THREAD_NAME = "level-preloader";
+	private static final System.Logger LOGGER = System.getLogger(LevelPreloader.class.getName());
+	private final ExecutorService executor;
+	private final double screenHeight;
+	private final double screenWidth;
+	private String preloadedClassName;
+	private Future<LevelParent> preloadedLevel;
+
+	public LevelPreloader(double screenHeight, double screenWidth) {
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.executor = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public void preload(String className) {
+		if (className == null || className.equals(preloadedClassName)) {
+			return;
+		}
+		preloadedClassName = className;
+		preloadedLevel = executor.submit(() -> {
+			LevelParent level = instantiate(className);
+			level.preloadAssets();
+			return level;
+		});
+	}
+
+	public LevelParent take(String className) throws ClassNotFoundException, NoSuchMethodException,
+			SecurityException, InstantiationException, IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		if (className.equals(preloadedClassName)) {
+			Future<LevelParent> level = preloadedLevel;
+			preloadedClassName = null;
+			preloadedLevel = null;
+			try {
+				return level.get();
+			} catch (ExecutionException e) {
+				LOGGER.log(System.Logger.Level.WARNING, "Preloading " + className + " failed", e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		LevelParent level = instantiate(className);
+		level.preloadAssets();
+		return level;
+	}
+
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private LevelParent instantiate(String className) throws ClassNotFoundException, NoSuchMethodException,
+			SecurityException, InstantiationException, IllegalAccessException, IllegalArgumentException,
+			InvocationTargetException {
+		Class<?> myClass = Class.forName(className);
+		Constructor<?> constructor = myClass.getConstructor(double.class, double.class);
+		return (LevelParent) constructor.newInstance(screenHeight, screenWidth);
+	}
+
+}
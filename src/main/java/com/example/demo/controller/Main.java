@@ -23,6 +23,13 @@ public class Main extends Application {
 		myController.launchGame();
 	}
 
+	@Override
+	public void stop() {
+		if (myController != null) {
+			myController.shutdown();
+		}
+	}
+
 	public static void main(String[] args) {
 		launch();
 	}
@@ -0,0 +1,37 @@
+package com.example.demo.controller;
+
+import java.lang.management.ManagementFactory;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+import com.example.demo.GameConfig;
+
+class StartupProbe {
+
+	static final String FIRST_FRAME_MARKER = "skybattle.firstFrame";
+	private static final System.Logger LOGGER = System.getLogger(StartupProbe.class.getName());
+	private final long exitAfterFirstFrameMillis;
+	private boolean reported;
+
+	StartupProbe() {
+		this.exitAfterFirstFrameMillis = GameConfig.getLong("exitAfterFirstFrameMillis", -1);
+	}
+
+	void onFirstFrame() {
+		if (reported) {
+			return;
+		}
+		reported = true;
+		long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+		LOGGER.log(System.Logger.Level.INFO, "Time to first frame: {0} ms since JVM start", uptimeMillis);
+		if (exitAfterFirstFrameMillis >= 0) {
+			System.out.println(FIRST_FRAME_MARKER + "=" + uptimeMillis);
+			PauseTransition delay = new PauseTransition(Duration.millis(exitAfterFirstFrameMillis));
+			delay.setOnFinished(event -> Platform.exit());
+			delay.play();
+		}
+	}
+
+}
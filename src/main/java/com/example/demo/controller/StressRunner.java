@@ -0,0 +1,111 @@
+package com.example.demo.controller;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+import com.example.demo.GameConfig;
+import com.example.demo.LatencyHistogram;
+import com.example.demo.LevelState;
+import com.example.demo.StressLevel;
+
+public final class StressRunner {
+
+	private static final int SCREEN_WIDTH = 1300;
+	private static final int SCREEN_HEIGHT = 750;
+	private static final int DEFAULT_ENEMIES = 500;
+	private static final int DEFAULT_PROJECTILES = 2000;
+	private static final double DEFAULT_DURATION_SECONDS = 30;
+	private static final double DEFAULT_WARMUP_SECONDS = 5;
+	private static final double NANOS_PER_SECOND = 1e9;
+	private static final double NANOS_PER_MICROSECOND = 1e3;
+	private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+	private StressRunner() {
+	}
+
+	public static void main(String[] args) {
+		int enemies = args.length > 0 ? Integer.parseInt(args[0]) : GameConfig.getInt("stress.enemies", DEFAULT_ENEMIES);
+		int projectiles = args.length > 1 ? Integer.parseInt(args[1])
+				: GameConfig.getInt("stress.projectiles", DEFAULT_PROJECTILES);
+		double duration = args.length > 2 ? Double.parseDouble(args[2])
+				: GameConfig.getDouble("stress.duration", DEFAULT_DURATION_SECONDS);
+		double warmup = GameConfig.getDouble("stress.warmup", DEFAULT_WARMUP_SECONDS);
+		StressLevel level = new StressLevel(SCREEN_HEIGHT, SCREEN_WIDTH, enemies, projectiles);
+		System.out.printf("stress: enemies=%d projectiles=%d warmup=%.0fs duration=%.0fs seed=%d%n", enemies,
+				projectiles, warmup, duration, level.getRandom().getSeed());
+		runFor(level, warmup);
+		resetPeakUsage();
+		LatencyHistogram tickTimes = new LatencyHistogram();
+		try (GcCollectionMonitor gc = new GcCollectionMonitor()) {
+			long ticksBefore = level.getTickCount();
+			long actorTicks = 0;
+			long start = System.nanoTime();
+			long deadline = start + (long) (duration * NANOS_PER_SECOND);
+			long now = start;
+			while (now < deadline && level.getState() == LevelState.RUNNING) {
+				level.tick();
+				long end = System.nanoTime();
+				tickTimes.record(end - now);
+				actorTicks += level.getActorCount();
+				now = end;
+			}
+			long ticks = level.getTickCount() - ticksBefore;
+			report(level, tickTimes, gc, ticks, actorTicks, now - start);
+		}
+	}
+
+	private static void runFor(StressLevel level, double seconds) {
+		long deadline = System.nanoTime() + (long) (seconds * NANOS_PER_SECOND);
+		while (System.nanoTime() < deadline && level.getState() == LevelState.RUNNING) {
+			level.tick();
+		}
+	}
+
+	private static void report(StressLevel level, LatencyHistogram tickTimes, GcCollectionMonitor gc, long ticks,
+			long actorTicks, long elapsed) {
+		double ticksPerSecond = ticks * NANOS_PER_SECOND / Math.max(1, elapsed);
+		System.out.printf("ticks=%d elapsed=%.1fs sustained=%.0f ticks/s (%.1fx real time at %d Hz)%n", ticks,
+				elapsed / NANOS_PER_SECOND, ticksPerSecond, ticksPerSecond / level.getTickRate(), level.getTickRate());
+		System.out.printf("actors: mean=%.0f final=%d state=%s%n", (double) actorTicks / Math.max(1, ticks),
+				level.getActorCount(), level.getState());
+		StringBuilder percentiles = new StringBuilder("headless tick time us (simulation only, no rendering):");
+		for (double percentile : PERCENTILES) {
+			percentiles.append(String.format(" p%s=%.1f", formatPercentile(percentile),
+					tickTimes.getPercentile(percentile) / NANOS_PER_MICROSECOND));
+		}
+		percentiles.append(String.format(" max=%.1f", tickTimes.getMax() / NANOS_PER_MICROSECOND));
+		System.out.println(percentiles);
+		long budgetNanos = (long) (level.getSecondsPerTick() * NANOS_PER_SECOND);
+		System.out.printf("tick budget %.1f us: p99 uses %.1f%%%n", budgetNanos / NANOS_PER_MICROSECOND,
+				100.0 * tickTimes.getPercentile(99) / budgetNanos);
+		Runtime runtime = Runtime.getRuntime();
+		System.out.printf("heap: used=%.1f MB peak=%.1f MB committed=%.1f MB max=%.1f MB%n",
+				(runtime.totalMemory() - runtime.freeMemory()) / BYTES_PER_MEGABYTE, peakHeapUsed() / BYTES_PER_MEGABYTE,
+				runtime.totalMemory() / BYTES_PER_MEGABYTE, runtime.maxMemory() / BYTES_PER_MEGABYTE);
+		System.out.printf("gc: collections=%d collection time=%d ms longest collection=%d ms (includes concurrent work)%n",
+				gc.getCollections(), gc.getTotalCollectionMillis(), gc.getMaxCollectionMillis());
+	}
+
+	private static String formatPercentile(double percentile) {
+		return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+	}
+
+	private static void resetPeakUsage() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			pool.resetPeakUsage();
+		}
+	}
+
+	private static long peakHeapUsed() {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+
+}
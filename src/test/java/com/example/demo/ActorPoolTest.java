@@ -0,0 +1,98 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ActorPoolTest {
+
+	private static final int CAPACITY = 2;
+	private static final double SECONDS = 0.5;
+	private static final long SEED = 3;
+	private static final int SHOTS = 100;
+
+	@Test
+	void releasedProjectileIsResetOnAcquire() {
+		ActorPool<UserProjectile> pool = new ActorPool<>("projectiles", () -> new UserProjectile(0, 0), CAPACITY);
+		UserProjectile projectile = pool.acquire(10, 20);
+		projectile.capturePreviousPosition();
+		projectile.updateActor(SECONDS);
+		projectile.destroy();
+		projectile.recycle();
+
+		UserProjectile reused = pool.acquire(30, 40);
+		assertSame(projectile, reused);
+		assertFalse(reused.isDestroyed());
+		assertEquals(30, reused.getX());
+		assertEquals(40, reused.getY());
+		assertEquals(0, reused.getTranslateX());
+		assertEquals(0, reused.getInterpolatedTranslateX(0));
+		assertEquals(1, pool.getMisses());
+		assertEquals(1, pool.getHits());
+	}
+
+	@Test
+	void releasedPlaneGetsItsHealthBack() {
+		ActorPool<EnemyPlane> pool = new ActorPool<>("planes", () -> new EnemyPlane(0, 0, new GameRandom(SEED)),
+				CAPACITY);
+		EnemyPlane plane = pool.acquire(100, 100);
+		while (!plane.isDestroyed()) {
+			plane.takeDamage();
+		}
+		plane.recycle();
+
+		EnemyPlane reused = pool.acquire(200, 50);
+		assertSame(plane, reused);
+		assertFalse(reused.isDestroyed());
+		assertEquals(reused.getInitialHealth(), reused.getHealth());
+	}
+
+	@Test
+	void releaseBeyondCapacityIsDiscarded() {
+		ActorPool<UserProjectile> pool = new ActorPool<>("projectiles", () -> new UserProjectile(0, 0), CAPACITY);
+		UserProjectile first = pool.acquire(0, 0);
+		UserProjectile second = pool.acquire(0, 0);
+		UserProjectile third = pool.acquire(0, 0);
+		assertNotSame(first, second);
+
+		first.recycle();
+		second.recycle();
+		third.recycle();
+		assertEquals(CAPACITY, pool.getAvailable());
+		assertEquals(1, pool.getDiscards());
+	}
+
+	@Test
+	void prewarmedActorsAreHits() {
+		ActorPool<UserProjectile> pool = new ActorPool<>("projectiles", () -> new UserProjectile(0, 0), CAPACITY);
+		pool.prewarm(CAPACITY + 1);
+		assertEquals(CAPACITY, pool.getAvailable());
+
+		pool.acquire(0, 0);
+		pool.acquire(0, 0);
+		assertEquals(CAPACITY, pool.getHits());
+		assertEquals(0, pool.getMisses());
+		assertTrue(pool.toString().contains("available=0/" + CAPACITY));
+	}
+
+	@Test
+	void pooledEnemyPlanesAreReseededFromTheLevelRandom() {
+		ActorPools first = new ActorPools(new GameRandom(SEED));
+		ActorPools second = new ActorPools(new GameRandom(SEED));
+		EnemyPlane plane = first.acquireEnemyPlane(0, 0);
+		plane.recycle();
+
+		EnemyPlane reused = first.acquireEnemyPlane(0, 0);
+		second.acquireEnemyPlane(0, 0);
+		EnemyPlane fresh = second.acquireEnemyPlane(0, 0);
+		assertSame(plane, reused);
+		for (int i = 0; i < SHOTS; i++) {
+			assertEquals(fresh.fireProjectile(second, SECONDS) != null, reused.fireProjectile(first, SECONDS) != null);
+		}
+	}
+
+}
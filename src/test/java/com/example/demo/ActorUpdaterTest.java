@@ -0,0 +1,54 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class ActorUpdaterTest {
+
+	private static final long SEED = 7;
+	private static final int ENEMIES = 300;
+	private static final int PROJECTILES = 3000;
+	private static final int TICKS = 600;
+	private static final int PARALLELISM = 4;
+	private static final int GRAIN_SIZE = 64;
+
+	@Test
+	void parallelUpdateMatchesSerialUpdate() {
+		ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+		try {
+			StressLevel serial = run(ActorUpdater.serial());
+			StressLevel parallel = run(new ActorUpdater(0, GRAIN_SIZE, pool));
+
+			assertEquals(serial.getTickCount(), parallel.getTickCount());
+			assertEquals(serial.getState(), parallel.getState());
+			assertEquals(serial.getUser().getHealth(), parallel.getUser().getHealth());
+			assertEquals(serial.getUser().getNumberOfKills(), parallel.getUser().getNumberOfKills());
+			WorldSnapshot expected = new WorldSnapshot().capture(serial, 0);
+			WorldSnapshot actual = new WorldSnapshot().capture(parallel, 0);
+			assertTrue(expected.getActorCount() > GRAIN_SIZE);
+			assertEquals(expected.getActorCount(), actual.getActorCount());
+			assertEquals(expected.getBulletCount(), actual.getBulletCount());
+			for (int i = 0; i < expected.getActorCount(); i++) {
+				assertEquals(expected.getActor(i).getClass(), actual.getActor(i).getClass());
+				assertEquals(expected.getActorX(i, 1), actual.getActorX(i, 1), "x of actor " + i);
+				assertEquals(expected.getActorY(i, 1), actual.getActorY(i, 1), "y of actor " + i);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static StressLevel run(ActorUpdater updater) {
+		StressLevel level = new StressLevel(750, 1300, ENEMIES, PROJECTILES, SEED);
+		level.setActorUpdater(updater);
+		while (level.getTickCount() < TICKS && level.getState() == LevelState.RUNNING) {
+			level.tick();
+		}
+		return level;
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class BulletFieldTest {
+
+	private static final String IMAGE_NAME = "fireball.png";
+	private static final int IMAGE_HEIGHT = SpriteManifest.getImageHeight(IMAGE_NAME);
+	private static final double HALF_WIDTH = SpriteMetrics.getScaledWidth(SpriteManifest.IMAGE_LOCATION + IMAGE_NAME,
+			IMAGE_HEIGHT) / 2;
+	private static final double HALF_HEIGHT = IMAGE_HEIGHT / 2.0;
+	private static final int CAPACITY = 16;
+	private static final double SCREEN_WIDTH = 1300;
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double FIRST_X = 100;
+	private static final double SPACING = 50;
+	private static final double ROW_Y = 300;
+	private static final double OFF_SCREEN_X = -1000;
+	private static final double EPSILON = 1e-9;
+
+	@Test
+	void spawnDropsBulletsBeyondCapacity() {
+		BulletField bullets = newField();
+		for (int i = 0; i < bullets.getCapacity(); i++) {
+			assertTrue(bullets.spawn(FIRST_X, ROW_Y, 0, 0));
+		}
+
+		assertFalse(bullets.spawn(FIRST_X, ROW_Y, 0, 0));
+		assertEquals(CAPACITY, bullets.size());
+		assertTrue(bullets.toString().contains("dropped=1"));
+	}
+
+	@Test
+	void retiringCompactsSurvivorsWithTheirOwnState() {
+		BulletField bullets = newField();
+		for (int i = 0; i < CAPACITY; i++) {
+			double centerX = i % 2 == 0 ? FIRST_X + i * SPACING : OFF_SCREEN_X;
+			bullets.spawn(centerX, ROW_Y, i, 0);
+		}
+
+		assertEquals(CAPACITY / 2, bullets.retireOutside(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT));
+		assertEquals(CAPACITY / 2, bullets.size());
+		bullets.capturePreviousPositions();
+		bullets.update(1);
+		Set<Integer> survivors = new HashSet<>();
+		for (int i = 0; i < bullets.size(); i++) {
+			double previousCenterX = bullets.getInterpolatedX(i, 0) + HALF_WIDTH;
+			int velocity = (int) Math.round(bullets.getInterpolatedX(i, 1) - bullets.getInterpolatedX(i, 0));
+			assertEquals(FIRST_X + velocity * SPACING, previousCenterX, EPSILON, "bullet " + i);
+			assertEquals(ROW_Y, bullets.getInterpolatedY(i, 1) + HALF_HEIGHT, EPSILON);
+			assertTrue(survivors.add(velocity));
+		}
+		for (int i = 0; i < CAPACITY; i += 2) {
+			assertTrue(survivors.contains(i), "bullet " + i + " survived");
+		}
+	}
+
+	@Test
+	void retiredSlotsAreReused() {
+		BulletField bullets = newField();
+		for (int i = 0; i < CAPACITY; i++) {
+			bullets.spawn(OFF_SCREEN_X, ROW_Y, 0, 0);
+		}
+		bullets.retireOutside(0, 0, SCREEN_WIDTH, SCREEN_HEIGHT);
+
+		assertEquals(0, bullets.size());
+		for (int i = 0; i < CAPACITY; i++) {
+			assertTrue(bullets.spawn(FIRST_X, ROW_Y, 0, 0));
+		}
+		assertEquals(CAPACITY, bullets.size());
+		assertTrue(bullets.toString().contains("dropped=0"));
+	}
+
+	@Test
+	void collideRemovesOnlyBulletsOnTheTarget() {
+		BulletField bullets = newField();
+		UserPlane target = new UserPlane(1, new GameRandom(1));
+		target.cacheBounds();
+		double targetCenterX = (target.getCachedMinX() + target.getCachedMaxX()) / 2;
+		double targetCenterY = (target.getCachedMinY() + target.getCachedMaxY()) / 2;
+		bullets.spawn(targetCenterX, targetCenterY, 0, 0);
+		bullets.spawn(SCREEN_WIDTH - HALF_WIDTH, SCREEN_HEIGHT - HALF_HEIGHT, 0, 0);
+
+		assertEquals(1, bullets.collide(target));
+		assertEquals(1, bullets.size());
+		assertEquals(1, bullets.getHits());
+		assertEquals(SCREEN_WIDTH - HALF_WIDTH, bullets.getInterpolatedX(0, 1) + HALF_WIDTH, EPSILON);
+	}
+
+	private static BulletField newField() {
+		return new BulletField("test", IMAGE_NAME, IMAGE_HEIGHT, CAPACITY);
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CollisionMaskTest {
+
+	private static final String PLANE = SpriteManifest.IMAGE_LOCATION + "enemyplane.png";
+	private static final String BULLET = SpriteManifest.IMAGE_LOCATION + "userfire.png";
+	private static final int PLANE_HEIGHT = 150;
+	private static final int BULLET_HEIGHT = 37;
+	private static final int OFFSET_STEP = 3;
+
+	@Test
+	void masksAreCachedPerSpriteAndHeight() {
+		CollisionMask plane = CollisionMask.forSprite(PLANE, PLANE_HEIGHT);
+
+		assertSame(plane, CollisionMask.forSprite(PLANE, PLANE_HEIGHT));
+		assertEquals(PLANE_HEIGHT, plane.getHeight());
+		assertEquals(Math.round(SpriteMetrics.getScaledWidth(PLANE, PLANE_HEIGHT)), plane.getWidth());
+		assertTrue(plane.getWidth() > Long.SIZE * 2);
+	}
+
+	@Test
+	void overlapsMatchesPixelByPixelTest() {
+		CollisionMask plane = CollisionMask.forSprite(PLANE, PLANE_HEIGHT);
+		CollisionMask bullet = CollisionMask.forSprite(BULLET, BULLET_HEIGHT);
+		int hits = 0;
+		int misses = 0;
+		for (int offsetY = -bullet.getHeight(); offsetY <= plane.getHeight(); offsetY += OFFSET_STEP) {
+			for (int offsetX = -bullet.getWidth(); offsetX <= plane.getWidth(); offsetX += OFFSET_STEP) {
+				boolean expected = overlapsByPixel(plane, bullet, offsetX, offsetY);
+				String window = "offset " + offsetX + "," + offsetY;
+				assertEquals(expected, plane.overlaps(bullet, offsetX, offsetY), window);
+				assertEquals(expected, bullet.overlaps(plane, -offsetX, -offsetY), "reversed " + window);
+				if (expected) {
+					hits++;
+				} else {
+					misses++;
+				}
+			}
+		}
+		assertTrue(hits > 0);
+		assertTrue(misses > 0);
+	}
+
+	@Test
+	void masksDoNotOverlapOutsideEachOther() {
+		CollisionMask plane = CollisionMask.forSprite(PLANE, PLANE_HEIGHT);
+		CollisionMask bullet = CollisionMask.forSprite(BULLET, BULLET_HEIGHT);
+
+		assertTrue(plane.overlaps(plane, 0, 0));
+		assertFalse(plane.overlaps(bullet, plane.getWidth(), 0));
+		assertFalse(plane.overlaps(bullet, 0, plane.getHeight()));
+		assertFalse(plane.overlaps(bullet, -bullet.getWidth(), 0));
+		assertFalse(plane.overlaps(bullet, 0, -bullet.getHeight()));
+	}
+
+	@Test
+	void missingSpriteIsRejected() {
+		assertThrows(IllegalArgumentException.class,
+				() -> CollisionMask.forSprite(SpriteManifest.IMAGE_LOCATION + "missing.png", PLANE_HEIGHT));
+	}
+
+	private static boolean overlapsByPixel(CollisionMask mask, CollisionMask other, int offsetX, int offsetY) {
+		for (int y = 0; y < other.getHeight(); y++) {
+			for (int x = 0; x < other.getWidth(); x++) {
+				if (other.isSolid(x, y) && mask.isSolid(x + offsetX, y + offsetY)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.application.Platform;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class GameLoopTest {
+
+	private static final int TICK_RATE = 50;
+	private static final long STEP_NANOS = 20_000_000L;
+	private static final int MAX_STEPS_PER_FRAME = 5;
+	private static final long START = 1_000_000_000L;
+	private static final long FX_TIMEOUT_SECONDS = 30;
+	private static final double EPSILON = 1e-9;
+	private final AtomicInteger steps = new AtomicInteger();
+	private final List<Double> alphas = new ArrayList<>();
+
+	@BeforeAll
+	static void startToolkit() throws Exception {
+		CompletableFuture<Void> started = new CompletableFuture<>();
+		try {
+			Platform.startup(() -> started.complete(null));
+		} catch (IllegalStateException alreadyStarted) {
+			started.complete(null);
+		}
+		started.get(FX_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void accumulatorCarriesPartialStepsIntoAlpha() throws Exception {
+		onFxThread(() -> {
+			GameLoop loop = start();
+
+			loop.handle(START);
+			assertFrame(0, 0);
+			loop.handle(START + STEP_NANOS * 5 / 2);
+			assertFrame(2, 0.5);
+			loop.handle(START + STEP_NANOS * 31 / 10);
+			assertFrame(3, 0.1);
+			loop.handle(START + STEP_NANOS * 31 / 10);
+			assertFrame(3, 0.1);
+			assertEquals(0, loop.getDroppedSteps());
+			loop.stop();
+			return null;
+		});
+	}
+
+	@Test
+	void spiralCapDropsStepsBeyondTheFrameLimit() throws Exception {
+		onFxThread(() -> {
+			GameLoop loop = start();
+
+			loop.handle(START);
+			loop.handle(START + STEP_NANOS * 20 + STEP_NANOS / 4);
+			assertFrame(MAX_STEPS_PER_FRAME, 0.25);
+			assertEquals(15, loop.getDroppedSteps());
+			loop.handle(START + STEP_NANOS * 21);
+			assertFrame(MAX_STEPS_PER_FRAME + 1, 0);
+			assertEquals(15, loop.getDroppedSteps());
+			loop.stop();
+			return null;
+		});
+	}
+
+	@Test
+	void stopResetsTheAccumulator() throws Exception {
+		onFxThread(() -> {
+			GameLoop loop = start();
+
+			loop.handle(START);
+			loop.handle(START + STEP_NANOS / 2);
+			loop.stop();
+			assertFalse(loop.isRunning());
+			loop.start();
+			loop.handle(START + STEP_NANOS * 100);
+			assertFrame(0, 0);
+			loop.handle(START + STEP_NANOS * 100 + STEP_NANOS / 2);
+			assertFrame(0, 0.5);
+			loop.stop();
+			return null;
+		});
+	}
+
+	private GameLoop start() {
+		GameLoop loop = new GameLoop(TICK_RATE, MAX_STEPS_PER_FRAME, steps::incrementAndGet, alphas::add);
+		loop.start();
+		return loop;
+	}
+
+	private void assertFrame(int expectedSteps, double expectedAlpha) {
+		assertEquals(expectedSteps, steps.get(), "steps");
+		assertEquals(expectedAlpha, alphas.get(alphas.size() - 1), EPSILON, "alpha");
+	}
+
+	private static <T> T onFxThread(Callable<T> action) throws Exception {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		Platform.runLater(() -> {
+			try {
+				result.complete(action.call());
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		});
+		return result.get(FX_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+}
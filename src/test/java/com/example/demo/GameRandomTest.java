@@ -0,0 +1,35 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+class GameRandomTest {
+
+	private static final long SEED = 42;
+	private static final int DRAWS = 32;
+
+	@Test
+	void splitStreamIsReproducibleFromItsSeed() {
+		GameRandom parent = new GameRandom(SEED);
+		GameRandom child = parent.split();
+		GameRandom replayed = new GameRandom(child.getSeed());
+
+		assertNotEquals(parent.getSeed(), child.getSeed());
+		for (int i = 0; i < DRAWS; i++) {
+			assertEquals(replayed.nextLong(), child.nextLong());
+		}
+	}
+
+	@Test
+	void splitsAreDeterministicForTheParentSeed() {
+		GameRandom first = new GameRandom(SEED);
+		GameRandom second = new GameRandom(SEED);
+
+		for (int i = 0; i < DRAWS; i++) {
+			assertEquals(first.split().getSeed(), second.split().getSeed());
+		}
+	}
+
+}
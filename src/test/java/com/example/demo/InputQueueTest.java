@@ -0,0 +1,79 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class InputQueueTest {
+
+	private static final int CAPACITY = 256;
+	private static final int ROUNDS = 1000;
+
+	@Test
+	void commandsDrainInOrder() {
+		InputQueue queue = new InputQueue();
+		InputState state = new InputState();
+		queue.press(InputState.UP);
+		queue.press(InputState.FIRE);
+		queue.release(InputState.UP);
+
+		assertEquals(3, queue.drainTo(state));
+		assertEquals(InputState.UP | InputState.FIRE, state.sample());
+		assertEquals(InputState.FIRE, state.sample());
+		assertEquals(0, queue.drainTo(state));
+	}
+
+	@Test
+	void indicesWrapAroundTheRing() {
+		InputQueue queue = new InputQueue();
+		InputState state = new InputState();
+		for (int round = 0; round < ROUNDS; round++) {
+			int key = round % 2 == 0 ? InputState.UP : InputState.DOWN;
+			assertTrue(queue.press(key));
+			assertTrue(queue.press(InputState.FIRE));
+			assertTrue(queue.release(InputState.FIRE));
+
+			assertEquals(3, queue.drainTo(state), "round " + round);
+			assertEquals(key | InputState.FIRE, state.sample());
+			state.release(key);
+		}
+		assertEquals(0, queue.getDropped());
+	}
+
+	@Test
+	void fullQueueDropsUntilDrained() {
+		InputQueue queue = new InputQueue();
+		InputState state = new InputState();
+		for (int i = 0; i < CAPACITY / 2; i++) {
+			queue.press(InputState.UP);
+			queue.drainTo(state);
+		}
+		for (int i = 0; i < CAPACITY - 1; i++) {
+			assertTrue(queue.press(InputState.UP));
+		}
+		assertTrue(queue.release(InputState.UP));
+
+		assertFalse(queue.press(InputState.DOWN));
+		assertFalse(queue.press(InputState.FIRE));
+		assertEquals(2, queue.getDropped());
+		assertEquals(CAPACITY, queue.drainTo(state));
+		assertEquals(InputState.UP, state.sample());
+		assertEquals(0, state.sample());
+		assertTrue(queue.press(InputState.DOWN));
+		assertEquals(2, queue.getDropped());
+	}
+
+	@Test
+	void clearDiscardsPendingCommands() {
+		InputQueue queue = new InputQueue();
+		InputState state = new InputState();
+		queue.press(InputState.FIRE);
+		queue.clear();
+
+		assertEquals(0, queue.drainTo(state));
+		assertEquals(0, state.sample());
+	}
+
+}
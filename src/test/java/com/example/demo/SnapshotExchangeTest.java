@@ -0,0 +1,69 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class SnapshotExchangeTest {
+
+	private static final int PUBLISHES = 200_000;
+	private static final long JOIN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+	@Test
+	void acquireReturnsTheLatestPublishedBuffer() {
+		SnapshotExchange exchange = new SnapshotExchange();
+		WorldSnapshot initial = exchange.acquire();
+		assertEquals(0, initial.getSequence());
+
+		WorldSnapshot written = exchange.getBackBuffer();
+		exchange.publish();
+		WorldSnapshot acquired = exchange.acquire();
+
+		assertSame(written, acquired);
+		assertEquals(1, acquired.getSequence());
+		assertSame(acquired, exchange.acquire());
+		assertNotSame(acquired, exchange.getBackBuffer());
+	}
+
+	@Test
+	void consumerSkipsToTheNewestOfSeveralPublishes() {
+		SnapshotExchange exchange = new SnapshotExchange();
+		exchange.publish();
+		exchange.publish();
+		WorldSnapshot newest = exchange.getBackBuffer();
+		exchange.publish();
+
+		WorldSnapshot acquired = exchange.acquire();
+		assertSame(newest, acquired);
+		assertEquals(3, acquired.getSequence());
+	}
+
+	@Test
+	void producerNeverWritesTheBufferTheConsumerHolds() throws InterruptedException {
+		SnapshotExchange exchange = new SnapshotExchange();
+		Thread producer = new Thread(() -> {
+			for (int i = 0; i < PUBLISHES; i++) {
+				exchange.publish();
+			}
+		});
+		producer.start();
+		long lastSequence = 0;
+		while (producer.isAlive()) {
+			WorldSnapshot snapshot = exchange.acquire();
+			long sequence = snapshot.getSequence();
+			Thread.onSpinWait();
+			assertEquals(sequence, snapshot.getSequence(), "held snapshot was republished");
+			assertTrue(sequence >= lastSequence, "sequence went backwards");
+			lastSequence = sequence;
+		}
+		producer.join(JOIN_TIMEOUT_MILLIS);
+
+		assertEquals(PUBLISHES, exchange.acquire().getSequence());
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class SpatialHashBroadphaseTest {
+
+	private static final long SEED = 11;
+	private static final double SCREEN_WIDTH = 1300;
+	private static final double SCREEN_HEIGHT = 750;
+	private static final double MARGIN = 200;
+	private static final double SMALL_CELL_SIZE = 16;
+	private static final int[] ACTOR_COUNTS = { 1, 7, 40, 300, 25, 900, 3 };
+
+	@Test
+	void findsTheSamePairsAsBruteForce() {
+		assertMatchesBruteForce(new SpatialHashBroadphase());
+	}
+
+	@Test
+	void findsEachPairOnceWhenActorsSpanManyCells() {
+		assertMatchesBruteForce(new SpatialHashBroadphase(SMALL_CELL_SIZE));
+	}
+
+	@Test
+	void emptySideReportsNothing() {
+		List<ActiveActorDestructible> actors = spawn(new GameRandom(SEED), 10);
+		List<String> pairs = new ArrayList<>();
+		SpatialHashBroadphase broadphase = new SpatialHashBroadphase();
+
+		broadphase.detectCollisions(actors, List.of(), (actor, other) -> pairs.add(actor + "/" + other));
+		broadphase.detectCollisions(List.of(), actors, (actor, other) -> pairs.add(actor + "/" + other));
+		assertTrue(pairs.isEmpty());
+	}
+
+	private static void assertMatchesBruteForce(SpatialHashBroadphase broadphase) {
+		GameRandom random = new GameRandom(SEED);
+		BruteForceBroadphase reference = new BruteForceBroadphase();
+		int totalPairs = 0;
+		for (int count : ACTOR_COUNTS) {
+			List<ActiveActorDestructible> targets = spawn(random, count);
+			List<ActiveActorDestructible> projectiles = spawn(random, count * 2);
+			List<String> expected = detect(reference, targets, projectiles);
+			List<String> actual = detect(broadphase, targets, projectiles);
+
+			assertEquals(new HashSet<>(expected), new HashSet<>(actual), count + " targets");
+			assertEquals(expected.size(), actual.size(), "duplicate pairs with " + count + " targets");
+			totalPairs += expected.size();
+		}
+		assertTrue(totalPairs > 0);
+	}
+
+	private static List<String> detect(CollisionBroadphase broadphase, List<ActiveActorDestructible> targets,
+			List<ActiveActorDestructible> projectiles) {
+		List<String> pairs = new ArrayList<>();
+		broadphase.detectCollisions(targets, projectiles,
+				(actor, other) -> pairs.add(projectiles.indexOf(actor) + "/" + targets.indexOf(other)));
+		Set<String> unique = new HashSet<>(pairs);
+		assertEquals(unique.size(), pairs.size(), "pair reported twice");
+		return pairs;
+	}
+
+	private static List<ActiveActorDestructible> spawn(GameRandom random, int count) {
+		List<ActiveActorDestructible> actors = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			double x = random.nextDouble(SCREEN_WIDTH + 2 * MARGIN) - MARGIN;
+			double y = random.nextDouble(SCREEN_HEIGHT + 2 * MARGIN) - MARGIN;
+			ActiveActorDestructible actor = random.chance(0.5) ? new UserProjectile(x, y)
+					: new EnemyPlane(x, y, random.split());
+			actor.cacheBounds();
+			actors.add(actor);
+		}
+		return actors;
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SpriteCacheTest {
+
+	private static final String BACKGROUND = "/com/example/demo/images/background1.jpg";
+	private static final String HEART = SpriteManifest.IMAGE_LOCATION + "heart.png";
+	private static final int SCREEN_WIDTH = 1300;
+	private static final int SCREEN_HEIGHT = 750;
+	private static final int BYTES_PER_PIXEL = 4;
+	private static final long FX_TIMEOUT_SECONDS = 30;
+	private static final int GC_ATTEMPTS = 20;
+	private static final long GC_WAIT_MILLIS = 50;
+
+	@BeforeAll
+	static void startToolkit() throws Exception {
+		CompletableFuture<Void> started = new CompletableFuture<>();
+		try {
+			Platform.startup(() -> started.complete(null));
+		} catch (IllegalStateException alreadyStarted) {
+			started.complete(null);
+		}
+		started.get(FX_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void repeatedRequestIsAHit() {
+		Image first = SpriteCache.getImage(HEART, SpriteCache.NATURAL_SIZE, 41);
+		long hits = SpriteCache.getHits();
+		long misses = SpriteCache.getMisses();
+
+		assertSame(first, SpriteCache.getImage(HEART, SpriteCache.NATURAL_SIZE, 41));
+		assertEquals(hits + 1, SpriteCache.getHits());
+		assertEquals(misses, SpriteCache.getMisses());
+	}
+
+	@Test
+	void retainedBytesStayWithinBudgetWhileReachableBytesAreCounted() {
+		long budget = SpriteCache.getBudgetBytes();
+		long imageBytes = (long) SCREEN_WIDTH * SCREEN_HEIGHT * BYTES_PER_PIXEL;
+		int sizes = (int) (budget / imageBytes) + 4;
+		long misses = SpriteCache.getMisses();
+		long evictions = SpriteCache.getEvictions();
+		List<Image> inUse = new ArrayList<>();
+
+		for (int i = 0; i < sizes; i++) {
+			inUse.add(SpriteCache.getImage(BACKGROUND, SCREEN_WIDTH, SCREEN_HEIGHT - i));
+			assertTrue(SpriteCache.getRetainedBytes() <= budget, "retained bytes after request " + i);
+		}
+		assertEquals(misses + sizes, SpriteCache.getMisses());
+		assertTrue(SpriteCache.getEvictions() > evictions);
+		assertTrue(SpriteCache.getBytes() > budget);
+		assertTrue(SpriteCache.getPeakBytes() >= SpriteCache.getBytes());
+		assertTrue(SpriteCache.getUsage().stream().anyMatch(usage -> !usage.cached()));
+		assertEquals(sizes, inUse.size());
+	}
+
+	@Test
+	void imageLargerThanTheBudgetIsNotRetained() {
+		long budget = SpriteCache.getBudgetBytes();
+		int side = (int) Math.sqrt((double) budget / BYTES_PER_PIXEL) + 1;
+		long retained = SpriteCache.getRetainedBytes();
+		long evictions = SpriteCache.getEvictions();
+
+		Image oversized = SpriteCache.getImage(BACKGROUND, side, side);
+
+		assertEquals(retained, SpriteCache.getRetainedBytes());
+		assertEquals(evictions, SpriteCache.getEvictions());
+		assertTrue(SpriteCache.getUsage().stream()
+				.anyMatch(usage -> usage.width() == side && usage.height() == side && !usage.cached()));
+		assertSame(oversized, SpriteCache.getImage(BACKGROUND, side, side));
+	}
+
+	@Test
+	void releasedImagesLeaveTheReachableTotal() throws InterruptedException {
+		Image image = SpriteCache.getImage(BACKGROUND, SCREEN_WIDTH - 1, SCREEN_HEIGHT - 1);
+		long imageBytes = (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+		long reachable = SpriteCache.getBytes();
+		assertTrue(reachable >= imageBytes);
+
+		image = null;
+		SpriteCache.clear();
+		assertEquals(0, SpriteCache.getRetainedBytes());
+		for (int attempt = 0; attempt < GC_ATTEMPTS && SpriteCache.getBytes() > reachable - imageBytes; attempt++) {
+			System.gc();
+			Thread.sleep(GC_WAIT_MILLIS);
+		}
+		assertTrue(SpriteCache.getBytes() <= reachable - imageBytes);
+		assertFalse(SpriteCache.getUsage().stream()
+				.anyMatch(usage -> usage.width() == SCREEN_WIDTH - 1 && usage.height() == SCREEN_HEIGHT - 1));
+	}
+
+}
@@ -0,0 +1,168 @@
+package com.example.demo.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.application.Platform;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.GameEventBus;
+import com.example.demo.LevelEndEvent;
+import com.example.demo.LevelParent;
+
+class LevelTransitionLeakTest {
+
+	private static final int SCREEN_WIDTH = 1300;
+	private static final int SCREEN_HEIGHT = 750;
+	private static final int KILLS_TO_ADVANCE = 10;
+	private static final int TICKS_AFTER_THRESHOLD = 5;
+	private static final long FX_TIMEOUT_SECONDS = 30;
+	private static final int GC_ATTEMPTS = 20;
+	private static final long GC_WAIT_MILLIS = 50;
+	private final AtomicInteger levelEndEvents = new AtomicInteger();
+	private final AtomicInteger sceneChanges = new AtomicInteger();
+	private Stage stage;
+	private Controller controller;
+
+	@BeforeAll
+	static void startToolkit() throws Exception {
+		CompletableFuture<Void> started = new CompletableFuture<>();
+		try {
+			Platform.startup(() -> started.complete(null));
+		} catch (IllegalStateException alreadyStarted) {
+			started.complete(null);
+		}
+		started.get(FX_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	@AfterEach
+	void closeStage() throws Exception {
+		onFxThread(() -> {
+			if (controller != null) {
+				controller.shutdown();
+			}
+			if (stage != null) {
+				stage.close();
+			}
+			return null;
+		});
+	}
+
+	@Test
+	void killThresholdAdvancesOnceAndReleasesTheOldLevel() throws Exception {
+		onFxThread(() -> {
+			stage = new Stage();
+			stage.setHeight(SCREEN_HEIGHT);
+			stage.setWidth(SCREEN_WIDTH);
+			controller = new Controller(stage);
+			controller.launchGame();
+			stage.sceneProperty().addListener((observable, oldScene, newScene) -> sceneChanges.incrementAndGet());
+			return null;
+		});
+		Map<String, WeakReference<Object>> oldLevel = reachKillThreshold();
+
+		LevelParent newLevel = onFxThread(() -> {
+			for (int i = 0; i < TICKS_AFTER_THRESHOLD; i++) {
+				LevelParent level = (LevelParent) oldLevel.get("level").get();
+				level.tick();
+			}
+			return controller.getCurrentLevel();
+		});
+		assertEquals(1, levelEndEvents.get(), "level end events");
+		assertEquals(1, sceneChanges.get(), "level transitions");
+		assertNotNull(newLevel);
+		assertNotSame(newLevel, oldLevel.get("level").get());
+		assertTrue(((LevelParent) oldLevel.get("level").get()).isDisposed());
+
+		newLevel = null;
+		for (int attempt = 0; attempt < GC_ATTEMPTS && anyReachable(oldLevel); attempt++) {
+			System.gc();
+			Thread.sleep(GC_WAIT_MILLIS);
+		}
+		for (Map.Entry<String, WeakReference<Object>> entry : oldLevel.entrySet()) {
+			assertNull(entry.getValue().get(), "disposed " + entry.getKey() + " is still reachable");
+		}
+	}
+
+	private Map<String, WeakReference<Object>> reachKillThreshold() throws Exception {
+		return onFxThread(() -> {
+			LevelParent level = controller.getCurrentLevel();
+			GameEventBus eventBus = level.getEventBus();
+			eventBus.subscribe(LevelEndEvent.class, event -> levelEndEvents.incrementAndGet(), GameEventBus.DIRECT);
+			Object screen = field(level, "screen");
+			ImageView background = (ImageView) field(screen, "background");
+			Map<String, WeakReference<Object>> references = new LinkedHashMap<>();
+			references.put("level", new WeakReference<>(level));
+			references.put("screen", new WeakReference<>(screen));
+			references.put("frame driver", new WeakReference<>(field(screen, "frameDriver")));
+			references.put("key pressed listener", new WeakReference<>(background.getOnKeyPressed()));
+			references.put("key released listener", new WeakReference<>(background.getOnKeyReleased()));
+			references.put("scene", new WeakReference<>(stage.getScene()));
+			references.put("event bus", new WeakReference<>(eventBus));
+
+			for (int i = level.getUser().getNumberOfKills(); i < KILLS_TO_ADVANCE; i++) {
+				level.getUser().incrementKillCount();
+			}
+			for (int i = 0; i <= TICKS_AFTER_THRESHOLD; i++) {
+				level.tick();
+			}
+			assertEquals(1, levelEndEvents.get(), "level end events before the transition runs");
+			assertEquals(0, sceneChanges.get(), "transition ran inside the ending tick");
+			assertNotNull(references.get("key pressed listener").get());
+			return references;
+		});
+	}
+
+	private static boolean anyReachable(Map<String, WeakReference<Object>> references) {
+		for (WeakReference<Object> reference : references.values()) {
+			if (reference.get() != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Object field(Object target, String name) throws ReflectiveOperationException {
+		Class<?> type = target.getClass();
+		while (type != null) {
+			try {
+				Field field = type.getDeclaredField(name);
+				field.setAccessible(true);
+				return field.get(target);
+			} catch (NoSuchFieldException e) {
+				type = type.getSuperclass();
+			}
+		}
+		throw new NoSuchFieldException(name);
+	}
+
+	private static <T> T onFxThread(Callable<T> action) throws Exception {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		Platform.runLater(() -> {
+			try {
+				result.complete(action.call());
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		});
+		return result.get(FX_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+}
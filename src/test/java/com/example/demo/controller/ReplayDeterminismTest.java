@@ -0,0 +1,67 @@
+package com.example.demo.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.demo.InputRecorder;
+import com.example.demo.InputState;
+import com.example.demo.LevelOne;
+import com.example.demo.LevelParent;
+import com.example.demo.LevelState;
+
+class ReplayDeterminismTest {
+
+	private static final long SEED = 42;
+	private static final long MAX_TICKS = 5_000;
+	private static final int STEER_PERIOD_TICKS = 40;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void prewarmedRecordingReplaysToTheSameState() throws Exception {
+		LevelParent recorded = new LevelOne(750, 1300, SEED);
+		recorded.prewarmPools();
+		InputRecorder recorder = InputRecorder.forLevel(directory, recorded);
+		recorded.setInputRecorder(recorder);
+		recorded.getInputQueue().press(InputState.FIRE);
+		while (recorded.getState() == LevelState.RUNNING && recorded.getTickCount() < MAX_TICKS) {
+			steer(recorded);
+			recorded.tick();
+		}
+		long ticks = recorded.getTickCount();
+		LevelState state = recorded.getState();
+		int health = recorded.getUser().getHealth();
+		int kills = recorded.getUser().getNumberOfKills();
+		int actors = recorded.getActorCount();
+		recorded.dispose();
+
+		LevelParent replayed = HeadlessRunner.replay(recorder.getPath(), Long.MAX_VALUE);
+
+		assertTrue(recorder.getEventCount() > 0);
+		assertEquals(ticks, replayed.getTickCount());
+		assertEquals(state, replayed.getState());
+		assertEquals(health, replayed.getUser().getHealth());
+		assertEquals(kills, replayed.getUser().getNumberOfKills());
+		assertEquals(actors, replayed.getActorCount());
+	}
+
+	private static void steer(LevelParent level) {
+		long phase = level.getTickCount() / STEER_PERIOD_TICKS % 3;
+		if (level.getTickCount() % STEER_PERIOD_TICKS != 0) {
+			return;
+		}
+		level.getInputQueue().release(InputState.UP | InputState.DOWN);
+		if (phase == 1) {
+			level.getInputQueue().press(InputState.UP);
+		} else if (phase == 2) {
+			level.getInputQueue().press(InputState.DOWN);
+		}
+	}
+
+}